@@ -0,0 +1,45 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.util.RosterGenerator;
+
+/**
+ * Builds the rosters used by the benchmarks with a {@code RosterGenerator} of a fixed seed, so every run of a
+ * benchmark works on the same data.
+ */
+public class BenchmarkData {
+
+    public static final long SEED = 42;
+    public static final int SESSIONS_PER_TEAM = 3;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} athletes with ids 1 to {@code count}.
+     */
+    public static List<Person> persons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        new RosterGenerator(SEED, count, 0, 0).persons().forEach(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns the athlete with id {@code id}, the same as in every roster with at least {@code id} athletes.
+     */
+    public static Person person(int id) {
+        return new RosterGenerator(SEED, id, 0, 0).getPerson(id - 1);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} athletes and a team for every 4 of them.
+     */
+    public static AddressBook addressBook(int personCount) {
+        return new RosterGenerator(SEED, personCount, personCount / Team.TEAM_SIZE, SESSIONS_PER_TEAM)
+                .toAddressBook();
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.RosterGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a synthetic roster to a data file, for load testing and profiling the app with a large roster.
+ *
+ * Usage: {@code GenerateRoster FILE ATHLETES [TEAMS [SESSIONS_PER_TEAM [SEED]]]}. By default there is a team for
+ * every 4 athletes, with 3 sessions each, and the seed of the benchmarks.
+ */
+public class GenerateRoster {
+
+    private static final String USAGE = "Usage: GenerateRoster FILE ATHLETES [TEAMS [SESSIONS_PER_TEAM [SEED]]]";
+
+    private GenerateRoster() {}
+
+    /**
+     * Writes the roster described by {@code args} to the file they name.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 5) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path filePath = Paths.get(args[0]);
+        int personCount = Integer.parseInt(args[1]);
+        int teamCount = args.length > 2 ? Integer.parseInt(args[2]) : personCount / 4;
+        int sessionsPerTeam = args.length > 3 ? Integer.parseInt(args[3]) : BenchmarkData.SESSIONS_PER_TEAM;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : BenchmarkData.SEED;
+
+        RosterGenerator generator = new RosterGenerator(seed, personCount, teamCount, sessionsPerTeam);
+        long start = System.nanoTime();
+        new JsonAddressBookStorage(filePath).saveAddressBook(generator.persons(), generator.teams(), filePath);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Wrote %d athletes and %d teams to %s in %d ms%n", personCount, teamCount, filePath,
+                elapsedMillis);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks tokenizing the arguments of commands with many and with few prefixes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    static final String ADD_ARGUMENTS = " n/John Doe d/2008-01-01 p/98765432 e/johnd@example.com"
+            + " a/311, Clementi Ave 2, #02-25 s/Raffles Institution r/captain h/175 w/65 t/injured t/vegetarian";
+
+    private static final String ADD_SESSION_ARGUMENTS = " i/1 sdt/2025-10-21 0700 edt/2025-10-21 0900 l/Track";
+
+    /**
+     * Tokenizes the arguments of an {@code add} command that uses every person prefix.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAdd() throws ParseException {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_DOB, PREFIX_PHONE, PREFIX_EMAIL,
+                PREFIX_ADDRESS, PREFIX_SCHOOL, PREFIX_ROLE, PREFIX_HEIGHT, PREFIX_WEIGHT, PREFIX_TAG);
+    }
+
+    /**
+     * Tokenizes the arguments of an {@code addsession} command.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenizeAddSession() throws ParseException {
+        return ArgumentTokenizer.tokenize(ADD_SESSION_ARGUMENTS, PREFIX_INDEX, PREFIX_LOCATION,
+                PREFIX_START_DATETIME, PREFIX_END_DATETIME);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks the predicates built by {@code FindCommandParser} over large rosters, both through the model, which
+ * resolves them with the search index, and by testing every athlete.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    @Param({" n/Alex", " n/Alex Roy s/Raffles", " n/Bernice s/Dunman r/captain t/injured"})
+    private String arguments;
+
+    private final FindCommandParser parser = new FindCommandParser();
+    private Model model;
+    private List<Person> persons;
+    private FindCommand findCommand;
+
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(BenchmarkData.addressBook(size), new UserPrefs());
+        persons = List.copyOf(model.getAddressBook().getPersonList());
+        findCommand = parser.parse(arguments);
+    }
+
+    @Benchmark
+    public FindCommand parse() throws ParseException {
+        return parser.parse(arguments);
+    }
+
+    @Benchmark
+    public CommandResult executeOnModel() {
+        return findCommand.execute(model);
+    }
+
+    /**
+     * Tests the parsed predicate against every athlete, without the cost of filtering the model's list.
+     */
+    @Benchmark
+    public void testEveryPerson(Blackhole blackhole) {
+        Predicate<Person> predicate = findCommand.getPredicate();
+        for (Person person : persons) {
+            blackhole.consume(predicate.test(person));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing a typical command for every command word.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final Map<String, String> COMMANDS = Map.ofEntries(
+            Map.entry("add", "add" + ArgumentTokenizerBenchmark.ADD_ARGUMENTS),
+            Map.entry("addsession", "addsession i/1 sdt/2025-10-21 0700 edt/2025-10-21 0900 l/Track"),
+            Map.entry("clear", "clear"),
+            Map.entry("delete", "delete 3"),
+            Map.entry("deletesession", "deletesession i/1 si/2"),
+            Map.entry("deleteteam", "deleteteam 2"),
+            Map.entry("edit", "edit 2 n/James Lee e/jameslee@example.com h/180.5"),
+            Map.entry("exit", "exit"),
+            Map.entry("find", "find n/John Jack s/Raffles r/captain t/injured"),
+            Map.entry("findteam", "findteam starteam sunteam"),
+            Map.entry("help", "help"),
+            Map.entry("list", "list"),
+            Map.entry("listteams", "listteams"),
+            Map.entry("schedule", "schedule l/Track sdt/2025-10-21 0700 edt/2025-10-21 0900"),
+            Map.entry("sessions", "sessions sdt/2025-10-20 0000 edt/2025-10-27 0000"),
+            Map.entry("stats", "stats"),
+            Map.entry("team", "team tn/StarTeam i/1 2 3 4"));
+
+    @Param({"add", "addsession", "clear", "delete", "deletesession", "deleteteam", "edit", "exit", "find",
+        "findteam", "help", "list", "listteams", "schedule", "sessions", "stats", "team"})
+    private String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String commandText;
+
+    @Setup
+    public void setUp() {
+        commandText = COMMANDS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+
+/**
+ * Benchmarks adding athletes to, and looking them up in, a {@code UniquePersonList} of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private Person present;
+    private Person absent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persons = new UniquePersonList();
+        List<Person> roster = BenchmarkData.persons(size);
+        persons.setPersons(roster);
+        present = roster.get(size / 2);
+        absent = BenchmarkData.person(size + 1);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return persons.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absent);
+    }
+
+    /**
+     * Adds an athlete to the end of the list and removes it again, so every invocation sees a list of the same size.
+     */
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        persons.add(absent);
+        persons.remove(absent);
+        return persons;
+    }
+}
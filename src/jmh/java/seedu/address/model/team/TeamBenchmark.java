@@ -0,0 +1,60 @@
+package seedu.address.model.team;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks constructing, hashing and comparing teams.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TeamBenchmark {
+
+    private TeamName name;
+    private Set<Person> members;
+    private Team team;
+    private Team sameTeam;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = BenchmarkData.persons(Team.TEAM_SIZE);
+        name = new TeamName("Relay Team");
+        members = Set.copyOf(persons);
+        team = new Team(name, members);
+        sameTeam = new Team(new TeamName("Relay Team"), Set.copyOf(persons));
+    }
+
+    @Benchmark
+    public Team construct() {
+        return new Team(name, members);
+    }
+
+    @Benchmark
+    public int hash() {
+        return team.hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsSameTeam() {
+        return team.equals(sameTeam);
+    }
+}
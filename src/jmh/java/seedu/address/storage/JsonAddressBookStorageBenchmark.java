@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks saving an address book to a JSON file and reading it back.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path directory;
+    private JsonAddressBookStorage storage;
+    private ReadOnlyAddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("relaycoach-benchmark");
+        storage = new JsonAddressBookStorage(directory.resolve("relaycoach.json"));
+        addressBook = BenchmarkData.addressBook(size);
+        storage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the data file and the temporary directory holding it.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    /**
+     * Saves the address book and reads it back, as a command followed by a restart would.
+     */
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> saveThenRead() throws IOException, DataLoadingException {
+        storage.saveAddressBook(addressBook);
+        return storage.readAddressBook();
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * The entry point for running a script of commands without the GUI. JavaFX is never started.
+ *
+ * Usage: {@code BatchMain [--config CONFIG_FILE] [--save-every N] [SCRIPT_FILE]}. The commands are read from
+ * {@code SCRIPT_FILE}, or from standard input if it is omitted or {@code -}, and applied to the address book in the
+ * data file of the user prefs. The changes are saved every N commands if {@code --save-every} is given, and at the
+ * end of the script. Failed commands are reported to standard error, and a summary to standard output.
+ *
+ * Exits with status 0 if every command succeeded, 1 if any command failed, and 2 if the script could not be run.
+ */
+public class BatchMain {
+
+    private static final String USAGE = "Usage: BatchMain [--config CONFIG_FILE] [--save-every N] [SCRIPT_FILE]";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    private BatchMain() {}
+
+    /**
+     * Runs the script described by {@code args}.
+     */
+    public static void main(String[] args) {
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        int saveInterval = BatchRunner.SAVE_AT_END;
+        String scriptFile = "-";
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--config") && i + 1 < args.length) {
+                    configFilePath = Paths.get(args[++i]);
+                } else if (args[i].equals("--save-every") && i + 1 < args.length) {
+                    saveInterval = Integer.parseInt(args[++i]);
+                } else if (i == args.length - 1 && !args[i].startsWith("--")) {
+                    scriptFile = args[i];
+                } else {
+                    throw new IllegalArgumentException(args[i]);
+                }
+            }
+            if (saveInterval < 0) {
+                throw new IllegalArgumentException("--save-every " + saveInterval);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+
+        try {
+            System.exit(run(configFilePath, saveInterval, scriptFile));
+        } catch (IOException | DataLoadingException e) {
+            System.err.println("Could not run the script: " + e.getMessage());
+            System.exit(2);
+        } catch (RuntimeException e) {
+            System.err.println("Could not run the script: " + e);
+            System.exit(2);
+        }
+    }
+
+    /**
+     * Runs the script in {@code scriptFile} with the config in {@code configFilePath}, and returns the exit status.
+     * Unlike the GUI, neither the config nor the user prefs are written, and a missing data file is started empty
+     * rather than with the sample data.
+     */
+    private static int run(Path configFilePath, int saveInterval, String scriptFile)
+            throws IOException, DataLoadingException {
+        Config config = ConfigUtil.readConfig(configFilePath).orElseGet(Config::new);
+        LogsCenter.init(config);
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        Storage storage = new StorageManager(new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                userPrefsStorage);
+
+        logger.info("Running script " + scriptFile + " against data file " + storage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        Model model = new ModelManager(addressBook.orElseGet(AddressBook::new), userPrefs);
+
+        BatchRunner batchRunner = new BatchRunner(model, storage, saveInterval);
+        try (BufferedReader script = scriptFile.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptFile), StandardCharsets.UTF_8)) {
+            System.out.println(batchRunner.run(script, System.err));
+        }
+        return batchRunner.getFailureCount() == 0 ? 0 : 1;
+    }
+}
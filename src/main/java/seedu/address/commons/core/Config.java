@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long maxSaveDelayMillis = 500;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how long, in milliseconds, changes to the address book may stay unsaved so that a burst of changes is
+     * written in one go. 0 saves each change as soon as possible.
+     */
+    public long getMaxSaveDelayMillis() {
+        return maxSaveDelayMillis;
+    }
+
+    public void setMaxSaveDelayMillis(long maxSaveDelayMillis) {
+        this.maxSaveDelayMillis = maxSaveDelayMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +60,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && maxSaveDelayMillis == otherConfig.maxSaveDelayMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, maxSaveDelayMillis);
     }
 
     @Override
@@ -60,6 +74,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("maxSaveDelayMillis", maxSaveDelayMillis)
                 .toString();
     }
 
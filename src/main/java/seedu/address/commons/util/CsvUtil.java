@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes comma-separated values (CSV) as described in RFC 4180, one record at a time.
+ *
+ * A field that contains a comma, a double quote or a line break is enclosed in double quotes, with each double quote
+ * in it doubled.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Reads the next record from {@code reader} and returns its fields, or null if there are no more records.
+     * A quoted field may span several lines. A quote that is never closed takes the rest of the input.
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                String nextLine = inQuotes ? reader.readLine() : null;
+                if (nextLine == null) {
+                    break;
+                }
+                field.append('\n');
+                line = nextLine;
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (inQuotes && c == QUOTE) {
+                if (i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    inQuotes = false;
+                }
+            } else if (inQuotes) {
+                field.append(c);
+            } else if (c == QUOTE) {
+                inQuotes = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns {@code fields} as a record, without a line break at the end.
+     */
+    public static String toRecord(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder record = new StringBuilder();
+        for (String field : fields) {
+            if (record.length() > 0) {
+                record.append(SEPARATOR);
+            }
+            appendField(record, field);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Appends {@code field} to {@code record}, quoted if it needs to be.
+     */
+    public static void appendField(StringBuilder record, String field) {
+        requireNonNull(field);
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            record.append(field);
+            return;
+        }
+
+        record.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                record.append(QUOTE);
+            }
+            record.append(c);
+        }
+        record.append(QUOTE);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes content lines of iCalendar data as described in RFC 5545, one line at a time.
+ *
+ * Lines end with CRLF, and a line longer than 75 octets is folded onto continuation lines that start with a space.
+ */
+public class IcsUtil {
+
+    public static final String LINE_BREAK = "\r\n";
+
+    /** Floating date-time form, which is the same wall clock time in every time zone. */
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final int MAX_LINE_OCTETS = 75;
+
+    /**
+     * Returns {@code dateTime} as an iCalendar floating date-time, e.g. {@code 20251021T070000}.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return DATE_TIME_FORMATTER.format(dateTime);
+    }
+
+    /**
+     * Appends {@code text} to {@code line} as an iCalendar TEXT value, with backslashes, semicolons, commas and line
+     * breaks escaped.
+     */
+    public static void appendText(StringBuilder line, String text) {
+        requireNonNull(text);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ';':
+            case ',':
+                line.append('\\').append(c);
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                break;
+            default:
+                line.append(c);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code line} and a line break to {@code writer}, folded so that no line is longer than 75 octets in
+     * UTF-8. A fold never splits a character.
+     */
+    public static void writeLine(Writer writer, CharSequence line) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(line);
+        int octets = 0;
+        int start = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int charOctets = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (Character.isLowSurrogate(c)) {
+                continue; // counted with its high surrogate
+            }
+            if (octets + charOctets > MAX_LINE_OCTETS) {
+                writer.append(line, start, i).append(LINE_BREAK).append(' ');
+                start = i;
+                octets = 1; // the leading space of the continuation line
+            }
+            octets += charOctets;
+        }
+        writer.append(line, start, line.length()).append(LINE_BREAK);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -92,6 +96,26 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a parser that reads the JSON data in {@code inputStream} one token at a time.
+     * Values read from it with {@link JsonParser#readValueAs(Class)} are converted in the same way as by the other
+     * methods of this class. Closing the parser closes {@code inputStream}.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code outputStream} one token at a time, in the same format as
+     * {@link #saveJsonFile(Object, Path)}. Values written with {@link JsonGenerator#writeObject(Object)} are converted
+     * in the same way as by the other methods of this class. Closing the generator closes {@code outputStream}.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        requireNonNull(outputStream);
+        return objectMapper.getFactory().createGenerator(outputStream).useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +135,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a single-line JSON data string representation, without the
+     * whitespace added by {@link #toJsonString(Object)}.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +40,115 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence}, split on whitespace as by {@code split("\\s+")}, each folded by
+     * {@link #foldCase(String)}. Matching a keyword against these words with {@link #containsAnyWord} gives the same
+     * result as {@link #containsWordIgnoreCase(String, String)}, without splitting the sentence again.
+     */
+    public static String[] toFoldedWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= sentence.length(); i++) {
+            boolean isWordEnd = i == sentence.length() || isWhitespace(sentence.charAt(i));
+            if (isWordEnd && wordStart >= 0) {
+                words.add(foldCase(sentence.substring(wordStart, i)));
+                wordStart = -1;
+            } else if (!isWordEnd && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        return words.toArray(String[]::new);
+    }
+
+    /**
+     * Returns {@code word} folded so that two words are equal ignoring case exactly when their folded forms are
+     * equal, matching {@link String#equalsIgnoreCase(String)}.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            folded.append(Character.toLowerCase(Character.toUpperCase(word.charAt(i))));
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Returns each of {@code keywords}, trimmed and folded by {@link #foldCase(String)}, to match against the words
+     * from {@link #toFoldedWords(String)}.
+     */
+    public static String[] toFoldedKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return keywords.stream().map(keyword -> foldCase(keyword.trim())).toArray(String[]::new);
+    }
+
+    /**
+     * Returns true if any of {@code foldedWords} is equal to any of {@code foldedKeywords}.
+     * Both are expected to be folded by {@link #foldCase(String)}.
+     */
+    public static boolean containsAnyWord(String[] foldedWords, String[] foldedKeywords) {
+        for (String keyword : foldedKeywords) {
+            for (String word : foldedWords) {
+                if (word.equals(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of single character insertions, deletions, substitutions and swaps of adjacent characters
+     * needed to turn {@code first} into {@code second}, if it is at most {@code maxDistance}, or
+     * {@code maxDistance + 1} otherwise. Stops as soon as the distance is known to exceed {@code maxDistance}.
+     */
+    public static int getEditDistance(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance must not be negative");
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        // distances from prefixes of first to the prefixes of second, in three rolling rows
+        int[] previousPrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distance = Math.min(distance, previousPrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[second.length()], maxDistance + 1);
+    }
+
+    /**
+     * Returns true if {@code c} is whitespace as in the regular expression {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
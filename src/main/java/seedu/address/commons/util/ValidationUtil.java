@@ -0,0 +1,147 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+/**
+ * Helper functions for validating and normalizing the values of fields, without regular expressions.
+ *
+ * Each function checks its input in a single pass and returns the parsed value, so that a value is parsed only once.
+ */
+public class ValidationUtil {
+
+    /** Returned by {@link #parseTenths(String, int, int)} for an invalid number. */
+    public static final int INVALID_TENTHS = -1;
+
+    private static final DateTimeFormatter ISO_DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
+            .withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * Returns true if {@code test} is made of {@code minLength} to {@code maxLength} digits from 0 to 9.
+     */
+    public static boolean isDigits(String test, int minLength, int maxLength) {
+        requireNonNull(test);
+        if (test.length() < minLength || test.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is {@code minLength} to {@code maxLength} characters long, and every character is
+     * a letter from A to Z in either case, a digit from 0 to 9, or one of {@code otherCharacters}.
+     */
+    public static boolean isAlphanumericOr(String test, String otherCharacters, int minLength, int maxLength) {
+        requireNonNull(test);
+        if (test.length() < minLength || test.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || isDigit(c) || otherCharacters.indexOf(c) >= 0)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number in {@code test} in tenths, e.g. 1755 for "175.5", or {@link #INVALID_TENTHS} if it is not a
+     * number from {@code min} to {@code max} with at most one decimal place.
+     * The number must not have a sign, leading zeros or a trailing decimal point.
+     */
+    public static int parseTenths(String test, int min, int max) {
+        requireNonNull(test);
+        int length = test.length();
+        int pointIndex = length >= 3 && test.charAt(length - 2) == '.' ? length - 2 : length;
+        // at most 4 digits before the point, so that the number cannot overflow
+        if (pointIndex == 0 || pointIndex > 4 || test.charAt(0) == '0' && pointIndex > 1) {
+            return INVALID_TENTHS;
+        }
+
+        int tenths = 0;
+        for (int i = 0; i < pointIndex; i++) {
+            char c = test.charAt(i);
+            if (!isDigit(c)) {
+                return INVALID_TENTHS;
+            }
+            tenths = tenths * 10 + (c - '0');
+        }
+        tenths *= 10;
+        if (pointIndex < length) {
+            char decimal = test.charAt(length - 1);
+            if (!isDigit(decimal)) {
+                return INVALID_TENTHS;
+            }
+            tenths += decimal - '0';
+        }
+        return tenths >= min * 10 && tenths <= max * 10 ? tenths : INVALID_TENTHS;
+    }
+
+    /**
+     * Returns {@code tenths} as a number with one decimal place, e.g. "175.0" for 1750.
+     */
+    public static String formatTenths(int tenths) {
+        return (tenths / 10) + "." + (tenths % 10);
+    }
+
+    /**
+     * Returns the date in {@code test} in the format YYYY-MM-DD, or null if it is not a valid calendar date.
+     */
+    public static LocalDate parseIsoDate(String test) {
+        requireNonNull(test);
+        if (test.length() != 10 || test.charAt(4) != '-' || test.charAt(7) != '-') {
+            return parseIsoDateWithFormatter(test); // years beyond 4 digits, or invalid
+        }
+
+        int year = parseDigits(test, 0, 4);
+        int month = parseDigits(test, 5, 7);
+        int day = parseDigits(test, 8, 10);
+        if (year < 0 || month < 0 || day < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate parseIsoDateWithFormatter(String test) {
+        try {
+            return LocalDate.parse(test, ISO_DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number made of the digits from {@code start} to {@code end} of {@code test}, or -1 if any of them
+     * is not a digit.
+     */
+    private static int parseDigits(String test, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands against a {@code Model} without a UI, e.g. to set up a season's athletes, teams and
+ * sessions in one go.
+ *
+ * Unlike {@link LogicManager}, which saves after every command that changes the address book, the changes are only
+ * saved every {@code saveInterval} commands and at the end of the script, so a script of n commands does not write
+ * the data file n times.
+ */
+public class BatchRunner {
+
+    public static final String MESSAGE_LINE_ERROR = "Line %d: %s";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+    public static final String MESSAGE_SUMMARY =
+            "Ran %d command(s) in %d ms (%.1f commands/s): %d failed, %d save(s).";
+
+    /** Saves only at the end of the script. */
+    public static final int SAVE_AT_END = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int saveInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    private int commandCount = 0;
+    private int failureCount = 0;
+    private int saveCount = 0;
+
+    /**
+     * Creates a {@code BatchRunner} that saves the changes to {@code model} to {@code storage} every
+     * {@code saveInterval} commands, or only at the end of the script if it is {@link #SAVE_AT_END}.
+     */
+    public BatchRunner(Model model, Storage storage, int saveInterval) {
+        requireAllNonNull(model, storage);
+        checkArgument(saveInterval >= 0, "Save interval must not be negative");
+        this.model = model;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Runs the commands in {@code script}, one per line, until the end of the script or an {@code exit} command, and
+     * returns a summary of the run. Blank lines and lines starting with {@code #} are skipped.
+     * A command that fails is reported to {@code errors} with its line number, and the script goes on. This includes
+     * a command that fails with an unexpected runtime exception, so that the changes of the script are still saved.
+     *
+     * @throws IOException if the script cannot be read or the address book cannot be saved. The changes made since
+     *     the last save are then not saved.
+     */
+    public String run(BufferedReader script, PrintStream errors) throws IOException {
+        requireAllNonNull(script, errors);
+        long start = System.nanoTime();
+
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith("#")) {
+                continue;
+            }
+
+            commandCount++;
+            boolean isExit = false;
+            try {
+                isExit = execute(commandText).isExit();
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                errors.println(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.warning("Unexpected error running line " + lineNumber + " of the script: " + e);
+                failureCount++;
+                errors.println(String.format(MESSAGE_LINE_ERROR, lineNumber,
+                        String.format(MESSAGE_UNEXPECTED_ERROR, e)));
+            }
+
+            if (isExit) {
+                break;
+            }
+            if (saveInterval != SAVE_AT_END && commandCount % saveInterval == 0) {
+                save();
+            }
+        }
+        save();
+
+        long elapsedNanos = System.nanoTime() - start;
+        double commandsPerSecond = commandCount / Math.max(elapsedNanos / 1e9, 1e-9);
+        String summary = String.format(MESSAGE_SUMMARY, commandCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                commandsPerSecond, failureCount, saveCount);
+        logger.info(summary);
+        return summary;
+    }
+
+    private CommandResult execute(String commandText) throws CommandException, ParseException {
+        logger.fine("----------------[BATCH COMMAND][" + commandText + "]");
+        Command command = addressBookParser.parseCommand(commandText);
+        try {
+            return command.execute(model);
+        } finally {
+            model.commitAddressBook();
+        }
+    }
+
+    /**
+     * Saves the changes made since the last save, if there are any.
+     */
+    private void save() throws IOException {
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+        storage.saveAddressBookChanges(model.getAddressBook(), changes);
+        saveCount++;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+}
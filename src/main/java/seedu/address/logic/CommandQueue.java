@@ -0,0 +1,157 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands with a {@code Logic} on a background thread, one at a time and in the order they are submitted.
+ *
+ * Only the thread of the queue executes commands, so the model and storage are changed by a single thread, and the
+ * thread submitting commands is never blocked by a long command or save. Commands submitted while another command is
+ * executing wait in the queue.
+ */
+public class CommandQueue {
+
+    public static final String MESSAGE_SHUT_DOWN = "The app is closing and no longer accepts commands.";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logic logic;
+    private final ExecutorService executor;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private volatile Runnable afterCommandHandler = () -> { };
+    private volatile Runnable pendingCountHandler = () -> { };
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic} and starts its thread.
+     */
+    public CommandQueue(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler called on the thread of the queue after each command is executed, before its result is
+     * completed. Changes made to the model by the command are visible to the handler.
+     */
+    public void setAfterCommandHandler(Runnable afterCommandHandler) {
+        this.afterCommandHandler = requireNonNull(afterCommandHandler);
+    }
+
+    /**
+     * Sets the handler called whenever the number of pending commands changes, on the thread that changed it.
+     *
+     * @see #getPendingCount()
+     */
+    public void setPendingCountHandler(Runnable pendingCountHandler) {
+        this.pendingCountHandler = requireNonNull(pendingCountHandler);
+    }
+
+    /**
+     * Returns the number of commands that are executing or waiting to be executed.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after all commands submitted before it.
+     *
+     * @return the result of the command, completed exceptionally with the {@code CommandException} or
+     *     {@code ParseException} thrown by {@link Logic#execute(String)} if the command failed, or with any other
+     *     exception or error that it threw. Completed exceptionally with a {@code CommandException} if the queue
+     *     has been shut down.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        pendingCount.incrementAndGet();
+        pendingCountHandler.run();
+        try {
+            executor.execute(() -> execute(commandText, result));
+        } catch (RejectedExecutionException e) {
+            pendingCount.decrementAndGet();
+            pendingCountHandler.run();
+            result.completeExceptionally(new CommandException(MESSAGE_SHUT_DOWN));
+        }
+        return result;
+    }
+
+    private void execute(String commandText, CompletableFuture<CommandResult> result) {
+        CommandResult commandResult = null;
+        Throwable error = null;
+        try {
+            commandResult = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            error = e;
+        } catch (Throwable t) {
+            // also an Error such as a failed assertion, so that the command is never left pending
+            logger.severe("Unexpected error executing command " + commandText + ": " + t);
+            error = t;
+        }
+
+        try {
+            afterCommandHandler.run();
+        } catch (Throwable t) {
+            logger.warning("Failed to handle the end of command " + commandText + ": " + t);
+        }
+        pendingCount.decrementAndGet();
+        pendingCountHandler.run();
+
+        if (error == null) {
+            result.complete(commandResult);
+        } else {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Stops accepting commands without waiting for the commands already submitted to be executed.
+     *
+     * @return a future completed on the thread of the queue once the commands already submitted are executed.
+     */
+    public CompletableFuture<Void> shutdownAsync() {
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+        try {
+            executor.execute(() -> drained.complete(null));
+        } catch (RejectedExecutionException e) {
+            // already shut down, so wait for the commands before that shutdown elsewhere
+            return CompletableFuture.runAsync(this::shutdown);
+        }
+        executor.shutdown();
+        return drained;
+    }
+
+    /**
+     * Stops accepting commands and waits for the commands already submitted to be executed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands were still executing when the command queue was shut down");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
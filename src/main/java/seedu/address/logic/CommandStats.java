@@ -0,0 +1,83 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencies of the phases of executing commands, kept in a {@code LatencyHistogram} per phase and command word.
+ */
+public class CommandStats {
+
+    /**
+     * A phase of executing a command.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        FILTER("filter"),
+        SAVE("save");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been timed yet.";
+    public static final String MESSAGE_HEADER = "Latency in ms (p50 / p95 / p99 / max):";
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new TreeMap<>();
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public synchronized void record(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        histograms.computeIfAbsent(commandWord, unused -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, unused -> new LatencyHistogram())
+                .recordNanos(nanos);
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of commands with {@code commandWord}, or null if none was recorded.
+     */
+    public synchronized LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        requireAllNonNull(commandWord, phase);
+        Map<Phase, LatencyHistogram> phases = histograms.get(commandWord);
+        return phases == null ? null : phases.get(phase);
+    }
+
+    /**
+     * Returns a summary of the latencies of every phase of every command word, in order of command word.
+     */
+    public synchronized String getSummary() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        histograms.forEach((commandWord, phases) -> {
+            long runs = phases.values().stream().mapToLong(LatencyHistogram::getTotalCount).max().orElse(0);
+            summary.append('\n').append(commandWord).append(" (").append(runs).append(" run(s))");
+            phases.forEach((phase, histogram) -> summary.append("\n  ").append(phase).append(": ")
+                    .append(formatMillis(histogram.getValueAtPercentile(50))).append(" / ")
+                    .append(formatMillis(histogram.getValueAtPercentile(95))).append(" / ")
+                    .append(formatMillis(histogram.getValueAtPercentile(99))).append(" / ")
+                    .append(formatMillis(histogram.getMaxValue())));
+        });
+        return summary.toString();
+    }
+
+    private static String formatMillis(long micros) {
+        return String.format("%.3f", micros / 1000.0);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A histogram of latencies with a fixed relative precision, in the style of an HDR histogram.
+ *
+ * Latencies are recorded in microseconds. Values below 128 are counted exactly; larger values are counted in buckets
+ * whose width doubles with every doubling of the value, with 64 buckets per doubling, so any percentile is reported
+ * within about 1.6% of the recorded value. Recording takes constant time and the histogram takes constant space,
+ * however many values are recorded. The exact maximum is kept separately.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+    private static final int TRACKABLE_BITS = 36; // up to about 19 hours
+    private static final long HIGHEST_TRACKABLE_VALUE = (1L << TRACKABLE_BITS) - 1;
+    private static final int MAX_MAGNITUDE = TRACKABLE_BITS - SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(MAX_MAGNITUDE + 2) * SUB_BUCKET_HALF_COUNT];
+    private long totalCount = 0;
+    private long maxValue = 0;
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as zero, and latencies too large
+     * to track are recorded as the largest trackable one.
+     */
+    public synchronized void recordNanos(long nanos) {
+        long micros = Math.min(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)), HIGHEST_TRACKABLE_VALUE);
+        counts[indexOf(micros)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, micros);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     */
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the largest recorded latency in microseconds, or 0 if none was recorded.
+     */
+    public synchronized long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the latency in microseconds that {@code percentile} percent of the recorded latencies are at or below,
+     * or 0 if none was recorded. The result is the largest value counted in the same bucket, but never more than the
+     * largest recorded latency.
+     *
+     * @param percentile a number from 0 to 100.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+        for (int index = 0; index < counts.length; index++) {
+            cumulativeCount += counts[index];
+            if (cumulativeCount >= countAtPercentile) {
+                return Math.min(highestValueAt(index), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the index of the bucket that counts {@code value}.
+     */
+    static int indexOf(long value) {
+        int magnitude = Math.max(0, (63 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1));
+        return magnitude * SUB_BUCKET_HALF_COUNT + (int) (value >>> magnitude);
+    }
+
+    /**
+     * Returns the largest value counted by the bucket at {@code index}.
+     */
+    static long highestValueAt(int index) {
+        int magnitude = Math.max(0, index / SUB_BUCKET_HALF_COUNT - 1);
+        long subBucket = index - (long) magnitude * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler called with the message to show the user when saving data in the background fails.
+     * The handler may be called on any thread.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
+
     /**
      * Returns the AddressBook.
      *
@@ -37,6 +45,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of teams */
     ObservableList<Team> getFilteredTeamList();
 
+    /**
+     * Returns the members of {@code team}.
+     *
+     * @see seedu.address.model.Model#getTeamMembers(Team)
+     */
+    List<Person> getTeamMembers(Team team);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,18 +1,25 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandStats.Phase;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -28,11 +35,15 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long STATS_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final CommandStats commandStats;
     private final AddressBookParser addressBookParser;
+    private long lastStatsLogTime = System.nanoTime();
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -40,28 +51,83 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        commandStats = new CommandStats();
+        addressBookParser = new AddressBookParser(commandStats);
     }
 
+    /**
+     * {@inheritDoc}
+     * The time taken to parse, execute, recompute the filtered lists and save is recorded for each command word. Only
+     * commands that parse are recorded, so unknown command words are not.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        long parseStart = System.nanoTime();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        commandStats.record(commandWord, Phase.PARSE, System.nanoTime() - parseStart);
+
+        try {
+            return executeAndSave(command, commandWord);
+        } finally {
+            logStatsIfDue();
+        }
+    }
 
+    private CommandResult executeAndSave(Command command, String commandWord) throws CommandException {
+        model.takeFilterNanos(); // filtering outside of commands is not timed
+        long executeStart = System.nanoTime();
+        CommandResult commandResult;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook(); // so that each command is undone on its own
+            long filterNanos = model.takeFilterNanos();
+            commandStats.record(commandWord, Phase.EXECUTE, System.nanoTime() - executeStart - filterNanos);
+            commandStats.record(commandWord, Phase.FILTER, filterNanos);
+        }
+
+        List<AddressBookChange> changes = model.takeAddressBookChanges();
+        if (changes.isEmpty()) {
+            return commandResult;
+        }
+
+        long saveStart = System.nanoTime();
+        try {
+            storage.saveAddressBookChanges(model.getAddressBook(), changes);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        } finally {
+            commandStats.record(commandWord, Phase.SAVE, System.nanoTime() - saveStart);
         }
 
         return commandResult;
     }
 
+    private void logStatsIfDue() {
+        long now = System.nanoTime();
+        if (now - lastStatsLogTime < STATS_LOG_INTERVAL_NANOS) {
+            return;
+        }
+        lastStatsLogTime = now;
+        logger.info(commandStats.getSummary());
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        requireNonNull(errorHandler);
+        storage.setAddressBookSaveErrorHandler(ioe -> errorHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -77,6 +143,11 @@ public class LogicManager implements Logic {
         return model.getFilteredTeamList();
     }
 
+    @Override
+    public List<Person> getTeamMembers(Team team) {
+        return model.getTeamMembers(team);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -7,6 +10,7 @@ import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.person.Person;
+import seedu.address.model.team.ScheduledSession;
 import seedu.address.model.team.Team;
 
 /**
@@ -26,6 +30,8 @@ public class Messages {
     public static final String MESSAGE_NO_MATCHING_ATHLETES = "The keywords does not seem to match any athletes.";
     public static final String MESSAGE_NO_TEAMS_IN_LIST = "No teams added yet!";
 
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd MMMM yyyy HH:mm");
+
     /**
      * Returns an error message indicating the duplicate prefixes.
      */
@@ -67,20 +73,38 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code team} for display to the user.
+     * Formats the {@code team}, whose members are {@code members}, for display to the user.
      */
-    public static String format(Team team) {
+    public static String format(Team team, List<Person> members) {
         final StringBuilder builder = new StringBuilder();
         builder.append("\n " + "Team name: ")
                 .append(team.getName())
                 .append("\n " + "Athletes: ");
         AtomicInteger counter = new AtomicInteger(1);
 
-        String members = team.getMembers().stream()
+        String formattedMembers = members.stream()
                 .map(person -> counter.getAndIncrement() + ". " + Messages.format(person))
                 .collect(Collectors.joining("\n "));
-        builder.append("\n ").append(members);
+        builder.append("\n ").append(formattedMembers);
         return builder.toString();
     }
 
+    /**
+     * Formats the {@code dateTime} for display to the user, in the same way as the times of a session.
+     */
+    public static String format(LocalDateTime dateTime) {
+        return dateTime.format(DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Formats the {@code sessions} for display to the user, one numbered session per line.
+     */
+    public static String format(List<ScheduledSession> sessions) {
+        AtomicInteger counter = new AtomicInteger(1);
+        return sessions.stream()
+                .map(scheduled -> counter.getAndIncrement() + ". " + scheduled.getTeamName() + " - "
+                        + scheduled.getSession())
+                .collect(Collectors.joining("\n"));
+    }
+
 }
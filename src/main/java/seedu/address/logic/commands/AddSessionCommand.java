@@ -52,31 +52,21 @@ public class AddSessionCommand extends Command {
 
         Team targetTeam = lastShownList.get(teamIndex.getZeroBased());
 
-        for (Session existing : targetTeam.getSessions()) {
-            if (session.equals(existing)) {
-                throw new CommandException(MESSAGE_DUPLICATE_INPUT);
-            }
-            if (sessionsOverlap(existing, session)) {
-                throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
-            }
-        }
-
         if (targetTeam.hasSession(session)) {
             throw new CommandException(MESSAGE_DUPLICATE_INPUT);
         }
 
+        // back-to-back sessions (end == start) do not overlap
+        if (targetTeam.getSessions().findOverlapping(session).isPresent()) {
+            throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
+        }
+
         model.addSessionToTeam(targetTeam, session);
 
         return new CommandResult(String.format(
                 MESSAGE_SUCCESS, targetTeam.getName().toString(), session.toString()), false, false, true);
     }
 
-    /** Returns true if two sessions overlap in time. Allows back-to-back sessions (end == start). */
-    private static boolean sessionsOverlap(Session a, Session b) {
-        return a.getStartDate().isBefore(b.getEndDate())
-                && b.getStartDate().isBefore(a.getEndDate());
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,8 +69,6 @@ public class AddTeamCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_TEAM_SIZE);
         }
 
-        List<Team> existingTeams = model.getFilteredTeamList();
-
         Team newTeam = new Team(teamName, members);
 
         // Checks if the team already exists using weak equality {@code isSameTeam()}.
@@ -81,7 +79,7 @@ public class AddTeamCommand extends Command {
         List<Integer> conflictingIndexes = memberIndexes.stream()
                 .filter(index -> {
                     Person member = lastShownList.get(index.getZeroBased());
-                    return existingTeams.stream().anyMatch(team -> team.hasMember(member));
+                    return model.getTeamOfPerson(member) != null;
                 })
                 .map(Index::getOneBased)
                 .toList();
@@ -96,7 +94,8 @@ public class AddTeamCommand extends Command {
         }
 
         model.addTeam(newTeam);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(newTeam)), false, false, true);
+        String formattedTeam = Messages.format(newTeam, model.getTeamMembers(newTeam));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, formattedTeam), false, false, true);
     }
 
     @Override
@@ -43,17 +43,19 @@ public class DeleteCommand extends Command {
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
-        model.deletePerson(personToDelete);
 
         Team team = model.getTeamOfPerson(personToDelete); // Check if person is in a team
         if (team != null) {
+            String formattedTeam = Messages.format(team, model.getTeamMembers(team));
             model.deleteTeam(team); // Team cannot exist without 4 members
+            model.deletePerson(personToDelete);
             return new CommandResult(
                     String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete))
                             + "\n"
-                            + String.format(MESSAGE_DELETE_TEAM_SUCCESS, Messages.format(team))
+                            + String.format(MESSAGE_DELETE_TEAM_SUCCESS, formattedTeam)
             );
         }
+        model.deletePerson(personToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.AddSessionCommand.MESSAGE_INVALID_TEAM_DISPLAYED_INDEX;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.index.Index;
@@ -11,6 +10,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.session.Session;
+import seedu.address.model.team.session.SessionTimeline;
 
 /**
  * Deletes a session identified using it's displayed index from a team.
@@ -52,14 +52,13 @@ public class DeleteSessionCommand extends Command {
 
         Team team = teams.get(teamIndex.getZeroBased());
 
-        ArrayList<Session> ordered = new ArrayList<>(team.getSessions());
-        ordered.sort(Session.SESSION_ORDER);
-
-        if (ordered.isEmpty() || sessionIndex.getZeroBased() >= ordered.size()) {
+        // sessions are kept in display order, so the displayed index can be looked up directly
+        SessionTimeline sessions = team.getSessions();
+        if (sessionIndex.getZeroBased() >= sessions.size()) {
             throw new CommandException(MESSAGE_INVALID_SESSION_INDEX);
         }
 
-        Session toDelete = ordered.get(sessionIndex.getZeroBased());
+        Session toDelete = sessions.get(sessionIndex.getZeroBased());
         model.deleteSession(team, toDelete);
 
         return new CommandResult(String.format(
@@ -41,8 +41,9 @@ public class DeleteTeamCommand extends Command {
         }
         assert targetIndex.getZeroBased() < lastShownList.size();
         Team teamToDelete = lastShownList.get(targetIndex.getZeroBased());
+        String formattedTeam = Messages.format(teamToDelete, model.getTeamMembers(teamToDelete));
         model.deleteTeam(teamToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_TEAM_SUCCESS, Messages.format(teamToDelete)),
+        return new CommandResult(String.format(MESSAGE_DELETE_TEAM_SUCCESS, formattedTeam),
                 false, false, true);
     }
 
@@ -0,0 +1,258 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.IcsUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.session.Session;
+
+/**
+ * Writes the athletes or teams in the address book to a CSV file, or the sessions of every team to an iCalendar file.
+ *
+ * The file is written one record at a time from the lists of the address book, through a buffer into a file channel,
+ * so the memory used does not grow with the size of the address book.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the athletes or teams to a CSV file, or the "
+            + "sessions of all teams to an iCalendar (.ics) file.\n"
+            + "Parameters: persons|teams|sessions FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " sessions data/sessions.ics";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s.";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    /** Columns of the athletes file, which are the columns that the import command reads. */
+    static final List<String> PERSON_COLUMNS =
+            List.of("name", "dob", "phone", "email", "address", "school", "role", "height", "weight", "tags");
+    static final List<String> TEAM_COLUMNS = List.of("team", "name", "dob", "school", "role");
+
+    static final String PRODUCT_ID = "-//RelayCoach//RelayCoach//EN";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_LINE_BREAK = "\r\n";
+    private static final DateTimeFormatter UTC_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    /**
+     * What is exported, and the word for it in the command.
+     */
+    public enum Kind {
+        PERSONS("persons", "athlete(s)"),
+        TEAMS("teams", "team(s)"),
+        SESSIONS("sessions", "session(s)");
+
+        private final String keyword;
+        private final String noun;
+
+        Kind(String keyword, String noun) {
+            this.keyword = keyword;
+            this.noun = noun;
+        }
+
+        /**
+         * Returns the kind named by {@code keyword}, ignoring case, or null if there is none.
+         */
+        public static Kind fromKeyword(String keyword) {
+            for (Kind kind : values()) {
+                if (kind.keyword.equalsIgnoreCase(keyword)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return keyword;
+        }
+    }
+
+    private final Kind kind;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the {@code kind} of entries to the file at {@code filePath}.
+     */
+    public ExportCommand(Kind kind, Path filePath) {
+        requireAllNonNull(kind, filePath);
+        this.kind = kind;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        int count;
+        try (Writer writer = openWriter(filePath)) {
+            switch (kind) {
+            case PERSONS:
+                count = writePersons(writer, addressBook.getPersonList());
+                break;
+            case TEAMS:
+                count = writeTeams(writer, model, addressBook.getTeamList());
+                break;
+            case SESSIONS:
+                count = writeSessions(writer, addressBook.getTeamList());
+                break;
+            default:
+                throw new AssertionError(kind);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, kind.noun, filePath));
+    }
+
+    /**
+     * Opens {@code filePath} for writing, replacing any file there, as a UTF-8 writer over a buffered file channel.
+     */
+    private static Writer openWriter(Path filePath) throws IOException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), BUFFER_SIZE),
+                BUFFER_SIZE);
+    }
+
+    /**
+     * Writes {@code persons} as CSV in the columns that the import command reads, and returns the number written.
+     */
+    private static int writePersons(Writer writer, List<Person> persons) throws IOException {
+        StringBuilder record = new StringBuilder(CsvUtil.toRecord(PERSON_COLUMNS));
+        writer.append(record).append(CSV_LINE_BREAK);
+        for (Person person : persons) {
+            record.setLength(0);
+            appendFields(record, person.getName().fullName, person.getDob().value, person.getPhone().value,
+                    person.getEmail().value, person.getAddress().value, person.getSchool().value,
+                    person.getRole().value, person.getHeight().value, person.getWeight().value);
+            record.append(',');
+            StringBuilder tags = new StringBuilder();
+            for (Tag tag : person.getTags()) {
+                tags.append(tags.length() == 0 ? "" : " ").append(tag.tagName);
+            }
+            CsvUtil.appendField(record, tags.toString());
+            writer.append(record).append(CSV_LINE_BREAK);
+        }
+        return persons.size();
+    }
+
+    /**
+     * Writes {@code teams} as CSV with a row for each member, and returns the number of teams written.
+     */
+    private static int writeTeams(Writer writer, Model model, List<Team> teams) throws IOException {
+        StringBuilder record = new StringBuilder(CsvUtil.toRecord(TEAM_COLUMNS));
+        writer.append(record).append(CSV_LINE_BREAK);
+        for (Team team : teams) {
+            for (Person member : model.getTeamMembers(team)) {
+                record.setLength(0);
+                appendFields(record, team.getName().fullTeamName, member.getName().fullName,
+                        member.getDob().value, member.getSchool().value, member.getRole().value);
+                writer.append(record).append(CSV_LINE_BREAK);
+            }
+        }
+        return teams.size();
+    }
+
+    /**
+     * Writes the sessions of {@code teams} as an iCalendar file with an event for each session, and returns the
+     * number of sessions written. The times are floating, as sessions are entered in local time.
+     */
+    private static int writeSessions(Writer writer, List<Team> teams) throws IOException {
+        String timestamp = UTC_DATE_TIME_FORMATTER.format(ZonedDateTime.now(ZoneOffset.UTC));
+        IcsUtil.writeLine(writer, "BEGIN:VCALENDAR");
+        IcsUtil.writeLine(writer, "VERSION:2.0");
+        IcsUtil.writeLine(writer, "PRODID:" + PRODUCT_ID);
+
+        int count = 0;
+        StringBuilder line = new StringBuilder();
+        for (Team team : teams) {
+            String teamName = team.getName().fullTeamName;
+            for (Session session : team.getSessions()) {
+                IcsUtil.writeLine(writer, "BEGIN:VEVENT");
+                IcsUtil.writeLine(writer, "UID:" + getUid(teamName, session));
+                IcsUtil.writeLine(writer, "DTSTAMP:" + timestamp);
+                IcsUtil.writeLine(writer, "DTSTART:" + IcsUtil.formatDateTime(session.getStartDate()));
+                IcsUtil.writeLine(writer, "DTEND:" + IcsUtil.formatDateTime(session.getEndDate()));
+                line.setLength(0);
+                IcsUtil.appendText(line.append("SUMMARY:"), teamName);
+                IcsUtil.writeLine(writer, line);
+                line.setLength(0);
+                IcsUtil.appendText(line.append("LOCATION:"), session.getLocation().value);
+                IcsUtil.writeLine(writer, line);
+                IcsUtil.writeLine(writer, "END:VEVENT");
+                count++;
+            }
+        }
+        IcsUtil.writeLine(writer, "END:VCALENDAR");
+        return count;
+    }
+
+    /**
+     * Returns an identifier for the event of {@code session}, which is the same in every export so that a calendar
+     * that imports the file again updates the event instead of adding a copy.
+     */
+    static String getUid(String teamName, Session session) {
+        String key = teamName + '\n' + session.getStartDate() + '\n' + session.getEndDate() + '\n'
+                + session.getLocation().value;
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)) + "@relaycoach";
+    }
+
+    private static void appendFields(StringBuilder record, String... fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            CsvUtil.appendField(record, fields[i]);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return kind == otherExportCommand.kind
+                && filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
 
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Height;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Weight;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -27,12 +34,27 @@ public class FindCommand extends Command {
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_SCHOOL + "SCHOOL] "
             + "[" + PREFIX_ROLE + "ROLE] "
-            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_NAME_FUZZY + "NAME] "
+            + "[" + PREFIX_SCHOOL_FUZZY + "SCHOOL] "
+            + "[" + PREFIX_HEIGHT + "MIN-MAX] "
+            + "[" + PREFIX_WEIGHT + "MIN-MAX] "
+            + "[" + PREFIX_DOB + "FROM-TO]\n"
+            + "Use " + PREFIX_NAME_FUZZY + " and " + PREFIX_SCHOOL_FUZZY + " to also find words with typos, "
+            + "closest matches first.\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_NAME + "John Doe "
             + PREFIX_SCHOOL + "NUS "
             + PREFIX_ROLE + "Captain "
-            + PREFIX_TAG + "injured ";
+            + PREFIX_TAG + "injured "
+            + PREFIX_HEIGHT + "170-185 "
+            + PREFIX_DOB + "2008-2010";
+
+    public static final String MESSAGE_INVALID_RANGE = "Ranges should be MIN-MAX with MIN at most MAX, or a single "
+            + "value: heights in cm from " + Height.MINIMUM_HEIGHT + " to " + Height.MAXIMUM_HEIGHT + " (e.g. "
+            + PREFIX_HEIGHT + "170-185), weights in kg from " + Weight.MINIMUM_WEIGHT + " to "
+            + Weight.MAXIMUM_WEIGHT + " (e.g. " + PREFIX_WEIGHT + "50-62.5), and dates of birth as years or "
+            + "YYYY-MM-DD dates (e.g. " + PREFIX_DOB + "2008-2010 or " + PREFIX_DOB + "2008-06-01-2009-05-31).";
 
     private final Predicate<Person> predicate;
 
@@ -0,0 +1,284 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Dob;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds the athletes in a CSV file to the address book.
+ *
+ * The file is read a chunk of rows at a time, and the rows of each chunk are validated in parallel. Duplicates of
+ * athletes in the address book or earlier in the file are found by hash lookups. All the valid rows are then added in
+ * a single change, so the address book is filtered, shown and saved once, and the rejected rows are written to an
+ * error report next to the file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the athletes in a CSV file to the address book. "
+            + "The first row of the file names the columns: name, dob, phone, email, address, school, role, height, "
+            + "weight and, optionally, tags separated by spaces, in any order.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/intake.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d athlete(s) from %2$s.";
+    public static final String MESSAGE_REJECTED_ROWS = " %1$d row(s) were rejected, see %2$s.";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write the error report %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "The CSV file has no header row.";
+    public static final String MESSAGE_MISSING_COLUMNS = "The CSV file has no column for: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_DUPLICATE_ROW = "This athlete is also in row %1$d.";
+
+    static final String ERROR_REPORT_SUFFIX = ".errors.csv";
+
+    /** Number of rows validated together, which bounds the rows held in memory before they are checked. */
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("name", "dob", "phone", "email", "address", "school", "role", "height", "weight");
+    private static final String TAGS_COLUMN = "tags";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the athletes in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<String> header;
+        List<Person> toAdd = new ArrayList<>();
+        List<Row> rejectedRows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            header = CsvUtil.readRecord(reader);
+            if (header == null) {
+                throw new CommandException(MESSAGE_EMPTY_FILE);
+            }
+            Map<String, Integer> columns = getColumns(header);
+
+            Map<Name, Map<Dob, Integer>> rowNumbersByIdentity = new HashMap<>();
+            int rowNumber = 1;
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> fields;
+            do {
+                fields = CsvUtil.readRecord(reader);
+                if (fields != null) {
+                    rowNumber++; // blank rows are skipped but still counted, to match the rows in a spreadsheet
+                    if (!isBlank(fields)) {
+                        chunk.add(new Row(rowNumber, fields));
+                    }
+                }
+                if (chunk.size() == CHUNK_SIZE || fields == null && !chunk.isEmpty()) {
+                    chunk.parallelStream().forEach(row -> row.parse(columns, header.size()));
+                    for (Row row : chunk) {
+                        checkDuplicate(model, row, rowNumbersByIdentity);
+                        if (row.error == null) {
+                            toAdd.add(row.person);
+                        } else {
+                            rejectedRows.add(row);
+                        }
+                    }
+                    chunk.clear();
+                }
+            } while (fields != null);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, toAdd.size(), filePath);
+        if (!rejectedRows.isEmpty()) {
+            Path errorReportPath = getErrorReportPath(filePath);
+            writeErrorReport(errorReportPath, header, rejectedRows);
+            message += String.format(MESSAGE_REJECTED_ROWS, rejectedRows.size(), errorReportPath);
+        }
+        if (!toAdd.isEmpty()) {
+            model.addPersons(toAdd);
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns the index of each column of the file, by its lower case name.
+     *
+     * @throws CommandException if a required column is missing.
+     */
+    private static Map<String, Integer> getColumns(List<String> header) throws CommandException {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // spreadsheet programs may start the file with a byte order mark
+            String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(column, i);
+        }
+
+        List<String> missingColumns = REQUIRED_COLUMNS.stream()
+                .filter(column -> !columns.containsKey(column))
+                .collect(Collectors.toList());
+        if (!missingColumns.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+        return columns;
+    }
+
+    /**
+     * Rejects {@code row} if its athlete is already in the address book or in an earlier row.
+     */
+    private static void checkDuplicate(Model model, Row row, Map<Name, Map<Dob, Integer>> rowNumbersByIdentity) {
+        if (row.error != null) {
+            return;
+        }
+        if (model.hasPerson(row.person)) {
+            row.error = AddCommand.MESSAGE_DUPLICATE_PERSON;
+            return;
+        }
+        Integer earlierRowNumber = rowNumbersByIdentity
+                .computeIfAbsent(row.person.getName(), unused -> new HashMap<>())
+                .putIfAbsent(row.person.getDob(), row.number);
+        if (earlierRowNumber != null) {
+            row.error = String.format(MESSAGE_DUPLICATE_ROW, earlierRowNumber);
+        }
+    }
+
+    private static boolean isBlank(List<String> fields) {
+        return fields.size() == 1 && fields.get(0).isBlank();
+    }
+
+    /**
+     * Returns the path of the error report for the CSV file at {@code filePath}, e.g. {@code intake.errors.csv} for
+     * {@code intake.csv}.
+     */
+    static Path getErrorReportPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.toLowerCase(Locale.ROOT).endsWith(".csv")
+                ? fileName.substring(0, fileName.length() - ".csv".length())
+                : fileName;
+        return filePath.resolveSibling(baseName + ERROR_REPORT_SUFFIX);
+    }
+
+    /**
+     * Writes the rejected rows to {@code errorReportPath} as CSV, each with its row number and the reason it was
+     * rejected, so that they can be fixed and imported again.
+     */
+    private static void writeErrorReport(Path errorReportPath, List<String> header, List<Row> rejectedRows)
+            throws CommandException {
+        try (BufferedWriter writer = Files.newBufferedWriter(errorReportPath, StandardCharsets.UTF_8)) {
+            List<String> reportHeader = new ArrayList<>();
+            reportHeader.add("row");
+            reportHeader.add("error");
+            reportHeader.addAll(header);
+            writer.write(CsvUtil.toRecord(reportHeader));
+            writer.newLine();
+            for (Row row : rejectedRows) {
+                List<String> record = new ArrayList<>();
+                record.add(String.valueOf(row.number));
+                record.add(row.error);
+                record.addAll(row.fields);
+                writer.write(CsvUtil.toRecord(record));
+                writer.newLine();
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, errorReportPath, ioe.getMessage()), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * A data row of the CSV file, which is parsed into either a person or the reason it is rejected.
+     */
+    private static class Row {
+        private final int number;
+        private final List<String> fields;
+        private Person person;
+        private String error;
+
+        Row(int number, List<String> fields) {
+            this.number = number;
+            this.fields = fields;
+        }
+
+        /**
+         * Parses the fields of this row with the validators of the value objects. Only reads shared state, so rows
+         * can be parsed in parallel.
+         */
+        void parse(Map<String, Integer> columns, int columnCount) {
+            if (fields.size() != columnCount) {
+                error = String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size());
+                return;
+            }
+            try {
+                Set<Tag> tags = columns.containsKey(TAGS_COLUMN) && !get(columns, TAGS_COLUMN).isEmpty()
+                        ? ParserUtil.parseTags(Arrays.asList(get(columns, TAGS_COLUMN).split("\\s+")))
+                        : new HashSet<>();
+                person = new Person(ParserUtil.parseName(get(columns, "name")),
+                        ParserUtil.parseDob(get(columns, "dob")),
+                        ParserUtil.parsePhone(get(columns, "phone")),
+                        ParserUtil.parseEmail(get(columns, "email")),
+                        ParserUtil.parseAddress(get(columns, "address")),
+                        ParserUtil.parseSchool(get(columns, "school")),
+                        ParserUtil.parseRole(get(columns, "role")),
+                        ParserUtil.parseHeight(get(columns, "height")),
+                        ParserUtil.parseWeight(get(columns, "weight")),
+                        tags);
+            } catch (ParseException pe) {
+                error = pe.getMessage();
+            }
+        }
+
+        private String get(Map<String, Integer> columns, String column) {
+            return fields.get(columns.get(column)).trim();
+        }
+    }
+}
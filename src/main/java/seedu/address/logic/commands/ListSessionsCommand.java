@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.team.ScheduledSession;
+
+/**
+ * Lists the sessions of all teams that run during a time range.
+ */
+public class ListSessionsCommand extends Command {
+
+    public static final String COMMAND_WORD = "sessions";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the sessions of all teams that run between the given start and end datetimes.\n"
+            + "Parameters: sdt/START_DATETIME edt/END_DATETIME\n"
+            + "Example: " + COMMAND_WORD + " sdt/2025-10-20 0000 edt/2025-10-27 0000";
+
+    public static final String MESSAGE_SUCCESS = "%1$d session(s) between %2$s and %3$s:\n%4$s";
+    public static final String MESSAGE_NO_SESSIONS = "No sessions between %1$s and %2$s.";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates a ListSessionsCommand to list the sessions that overlap the time range from {@code start} to
+     * {@code end}.
+     */
+    public ListSessionsCommand(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<ScheduledSession> sessions = model.getSessionsBetween(start, end);
+        if (sessions.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SESSIONS,
+                    Messages.format(start), Messages.format(end)), false, false, true);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sessions.size(),
+                Messages.format(start), Messages.format(end), Messages.format(sessions)), false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListSessionsCommand)) {
+            return false;
+        }
+
+        ListSessionsCommand otherListSessionsCommand = (ListSessionsCommand) other;
+        return start.equals(otherListSessionsCommand.start)
+                && end.equals(otherListSessionsCommand.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
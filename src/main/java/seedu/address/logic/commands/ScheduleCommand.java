@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.team.ScheduledSession;
+import seedu.address.model.team.session.Location;
+
+/**
+ * Lists the sessions of all teams at a location during a time range, to check whether the location is booked.
+ */
+public class ScheduleCommand extends Command {
+
+    public static final String COMMAND_WORD = "schedule";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the sessions of all teams at the given location that run between the given start and end "
+            + "datetimes.\n"
+            + "Parameters: l/LOCATION sdt/START_DATETIME edt/END_DATETIME\n"
+            + "Example: " + COMMAND_WORD + " l/Track sdt/2025-10-21 0700 edt/2025-10-21 0900";
+
+    public static final String MESSAGE_SUCCESS = "%1$d session(s) at %2$s between %3$s and %4$s:\n%5$s";
+    public static final String MESSAGE_NO_SESSIONS = "%1$s is free between %2$s and %3$s.";
+
+    private final Location location;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates a ScheduleCommand to list the sessions at {@code location} that overlap the time range from
+     * {@code start} to {@code end}.
+     */
+    public ScheduleCommand(Location location, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(location, start, end);
+        this.location = location;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<ScheduledSession> sessions = model.getSessionsAt(location, start, end);
+        if (sessions.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SESSIONS, location,
+                    Messages.format(start), Messages.format(end)), false, false, true);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sessions.size(), location,
+                Messages.format(start), Messages.format(end), Messages.format(sessions)), false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleCommand)) {
+            return false;
+        }
+
+        ScheduleCommand otherScheduleCommand = (ScheduleCommand) other;
+        return location.equals(otherScheduleCommand.location)
+                && start.equals(otherScheduleCommand.start)
+                && end.equals(otherScheduleCommand.end);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("location", location)
+                .add("start", start)
+                .add("end", end)
+                .toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.CommandStats;
+import seedu.address.model.Model;
+
+/**
+ * Shows the latencies of the phases of the commands executed so far, by command word.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long each phase of every command took, as the median, 95th and 99th percentile and "
+            + "maximum latency in milliseconds.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandStats commandStats;
+
+    /**
+     * Creates a StatsCommand to show the latencies in {@code commandStats}.
+     */
+    public StatsCommand(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(commandStats.getSummary());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandStats == otherStatsCommand.commandStats;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandStats", commandStats)
+                .toString();
+    }
+}
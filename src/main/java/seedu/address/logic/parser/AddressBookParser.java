@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -8,6 +9,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandStats;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddSessionCommand;
 import seedu.address.logic.commands.AddTeamCommand;
@@ -18,11 +20,18 @@ import seedu.address.logic.commands.DeleteSessionCommand;
 import seedu.address.logic.commands.DeleteTeamCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindTeamCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListSessionsCommand;
 import seedu.address.logic.commands.ListTeamsCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -36,6 +45,22 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandStats commandStats;
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} command shows the latencies in {@code commandStats}.
+     */
+    public AddressBookParser(CommandStats commandStats) {
+        this.commandStats = requireNonNull(commandStats);
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} command shows no latencies.
+     */
+    public AddressBookParser() {
+        this(new CommandStats());
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -77,6 +102,18 @@ public class AddressBookParser {
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
@@ -101,6 +138,14 @@ public class AddressBookParser {
         case DeleteSessionCommand.COMMAND_WORD:
             return new DeleteSessionCommandParser().parse(arguments);
 
+        case ListSessionsCommand.COMMAND_WORD:
+            return new ListSessionsCommandParser().parse(arguments);
+
+        case ScheduleCommand.COMMAND_WORD:
+            return new ScheduleCommandParser().parse(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandStats);
 
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
@@ -1,10 +1,11 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -14,9 +15,20 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. Text between {@code <} and {@code >} is escaped: a {@code /} in it never ends a prefix, e.g. the value of
+ *    {@code n/} in {@code n/<Ravi s/o Kumar>} is {@code Ravi s/o Kumar}. The brackets themselves are discarded.<br>
+ *
+ * The arguments string is tokenized in a single pass from left to right, with the given prefixes in a trie.
  */
 public class ArgumentTokenizer {
 
+    public static final String MESSAGE_UNMATCHED_BRACKETS = "Unmatched brackets in name. Use <> format.";
+
+    /** Tries of the sets of prefixes tokenized with so far, which are the few sets the parsers use. */
+    private static final Map<List<Prefix>, PrefixTrie> TRIES = new ConcurrentHashMap<>();
+
+    private static final Prefix PREAMBLE = new Prefix("");
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,133 +36,173 @@ public class ArgumentTokenizer {
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
+     * @throws ParseException if the arguments string has a {@code <} but no {@code >}, or the other way round.
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) throws ParseException {
-        if (argsString.contains("<") ^ argsString.contains(">")) {
-            throw new ParseException("Unmatched brackets in name. Use <> format.");
-        }
-        //replace forward slash with unicode character
-        String maskedArgs = argsString.replaceAll("(?<=<[^>]*)/", "\uE000");
-        List<PrefixPosition> positions = findAllPrefixPositions(maskedArgs, prefixes);
-        return extractArguments(maskedArgs, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
+        PrefixTrie trie = getTrie(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        boolean inBrackets = false;
+        boolean hasOpeningBracket = false;
+        boolean hasClosingBracket = false;
+        for (int i = 0; i < argsString.length(); i++) {
+            // a prefix is only recognized after a space
+            Prefix prefix = i > 0 && argsString.charAt(i - 1) == ' ' ? trie.match(argsString, i, inBrackets) : null;
+            if (prefix != null) {
+                argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, i));
+                currentPrefix = prefix;
+                valueStart = i + prefix.getPrefix().length();
+            }
+
+            char c = argsString.charAt(i);
+            if (c == '<') {
+                inBrackets = true;
+                hasOpeningBracket = true;
+            } else if (c == '>') {
+                inBrackets = false;
+                hasClosingBracket = true;
+            }
         }
 
-        return positions;
+        if (hasOpeningBracket ^ hasClosingBracket) {
+            throw new ParseException(MESSAGE_UNMATCHED_BRACKETS);
+        }
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStart, argsString.length()));
+        return argMultimap;
     }
 
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    private static PrefixTrie getTrie(Prefix... prefixes) {
+        PrefixTrie trie = TRIES.get(Arrays.asList(prefixes));
+        if (trie == null) {
+            trie = new PrefixTrie(prefixes);
+            TRIES.putIfAbsent(List.of(prefixes), trie);
+        }
+        return trie;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
+     * Returns the value of the argument from {@code start} to {@code end} in the arguments string, without leading
+     * and trailing whitespace and brackets, and with every run of whitespace replaced by a single space.
      *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Brackets are discarded after the value is trimmed, so a value such as {@code < a >} keeps its spaces.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static String extractArgumentValue(String argsString, int start, int end) {
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (isPlain(argsString, start, end)) {
+            return argsString.substring(start, end);
         }
 
-        return argMultimap;
+        StringBuilder value = new StringBuilder(end - start);
+        boolean inWhitespace = false;
+        for (int i = start; i < end; i++) {
+            char c = argsString.charAt(i);
+            if (c == '<' || c == '>') {
+                continue;
+            }
+            if (StringUtil.isWhitespace(c)) {
+                inWhitespace = true;
+                continue;
+            }
+            if (inWhitespace) {
+                value.append(' ');
+                inWhitespace = false;
+            }
+            value.append(c);
+        }
+        if (inWhitespace) {
+            value.append(' ');
+        }
+        return value.toString();
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns true if the value from {@code start} to {@code end} has no brackets and no whitespace other than
+     * single spaces, and so is its own value.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim().replace("\uE000", "/") //replace unicode character with forward slash
-                .replaceAll("[<>]", "") //remove brackets
-                .replaceAll("\\s+", " "); //remove whitespace between prefix and value
+    private static boolean isPlain(String argsString, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = argsString.charAt(i);
+            if (c == '<' || c == '>' || StringUtil.isWhitespace(c)
+                    && (c != ' ' || i + 1 < end && StringUtil.isWhitespace(argsString.charAt(i + 1)))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * A set of prefixes in a trie, which finds the prefix at a position of an arguments string by following the
+     * characters there, however many prefixes there are.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class PrefixTrie {
+        private char[] labels = new char[0];
+        private PrefixTrie[] children = new PrefixTrie[0];
+        private Prefix prefix;
+
+        PrefixTrie(Prefix... prefixes) {
+            for (Prefix prefix : prefixes) {
+                add(prefix);
+            }
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        private void add(Prefix prefix) {
+            PrefixTrie node = this;
+            for (char c : prefix.getPrefix().toCharArray()) {
+                PrefixTrie child = node.getChild(c);
+                if (child == null) {
+                    child = new PrefixTrie();
+                    node.labels = Arrays.copyOf(node.labels, node.labels.length + 1);
+                    node.children = Arrays.copyOf(node.children, node.children.length + 1);
+                    node.labels[node.labels.length - 1] = c;
+                    node.children[node.children.length - 1] = child;
+                }
+                node = child;
+            }
+            node.prefix = prefix;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        private PrefixTrie getChild(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * Returns the longest prefix at {@code position} of {@code argsString}, or null if there is none. A {@code /}
+         * between brackets, which {@code inBrackets} tells whether {@code position} is, never matches.
+         */
+        Prefix match(String argsString, int position, boolean inBrackets) {
+            Prefix longestMatch = prefix;
+            PrefixTrie node = this;
+            for (int i = position; i < argsString.length(); i++) {
+                char c = argsString.charAt(i);
+                if (c == '/' && inBrackets) {
+                    break;
+                }
+                node = node.getChild(c);
+                if (node == null) {
+                    break;
+                }
+                if (node.prefix != null) {
+                    longestMatch = node.prefix;
+                }
+                if (c == '<') {
+                    inBrackets = true;
+                } else if (c == '>') {
+                    inBrackets = false;
+                }
+            }
+            return longestMatch;
         }
     }
 
@@ -22,4 +22,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_START_DATETIME = new Prefix("sdt/");
     public static final Prefix PREFIX_END_DATETIME = new Prefix("edt/");
     public static final Prefix PREFIX_SESSION_INDEX = new Prefix("si/");
+    public static final Prefix PREFIX_NAME_FUZZY = new Prefix("n~/");
+    public static final Prefix PREFIX_SCHOOL_FUZZY = new Prefix("s~/");
 }
@@ -1,31 +1,48 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.util.ValidationUtil.INVALID_TENTHS;
+import static seedu.address.commons.util.ValidationUtil.parseIsoDate;
+import static seedu.address.commons.util.ValidationUtil.parseTenths;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHOOL_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
 import static seedu.address.logic.parser.ParserUtil.parseName;
 import static seedu.address.logic.parser.ParserUtil.parseRole;
 import static seedu.address.logic.parser.ParserUtil.parseSchool;
 import static seedu.address.logic.parser.ParserUtil.parseTag;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FieldInRangePredicate;
+import seedu.address.model.person.FuzzyKeywordsPredicate;
+import seedu.address.model.person.Height;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesAllPredicate;
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.model.person.PersonSearchIndex.NumericField;
+import seedu.address.model.person.PersonSearchPredicate;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.School;
 import seedu.address.model.person.SchoolContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.person.Weight;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -33,19 +50,24 @@ import seedu.address.model.tag.Tag;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    /** A year or a YYYY-MM-DD date, optionally followed by a hyphen and another year or date. */
+    private static final Pattern DOB_RANGE_FORMAT =
+            Pattern.compile("(\\d{4}(?:-\\d{2}-\\d{2})?)(?:-(\\d{4}(?:-\\d{2}-\\d{2})?))?");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SCHOOL, PREFIX_ROLE, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_SCHOOL, PREFIX_ROLE,
+                PREFIX_TAG, PREFIX_NAME_FUZZY, PREFIX_SCHOOL_FUZZY, PREFIX_HEIGHT, PREFIX_WEIGHT, PREFIX_DOB);
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_SCHOOL, PREFIX_ROLE, PREFIX_TAG);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_SCHOOL, PREFIX_ROLE, PREFIX_TAG,
+                PREFIX_NAME_FUZZY, PREFIX_SCHOOL_FUZZY, PREFIX_HEIGHT, PREFIX_WEIGHT, PREFIX_DOB);
 
         // Create predicates for each field if the prefix is present and non-empty
-        Optional<Predicate<Person>> namePredicate = Optional.empty();
+        Optional<PersonSearchPredicate> namePredicate = Optional.empty();
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             String value = argMultimap.getValue(PREFIX_NAME).get();
             if (!value.isBlank()) {
@@ -56,7 +78,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 namePredicate = Optional.of(new NameContainsKeywordsPredicate(keywords));
             }
         }
-        Optional<Predicate<Person>> schoolPredicate = Optional.empty();
+        Optional<PersonSearchPredicate> schoolPredicate = Optional.empty();
         if (argMultimap.getValue(PREFIX_SCHOOL).isPresent()) {
             String value = argMultimap.getValue(PREFIX_SCHOOL).get();
             if (!value.isBlank()) {
@@ -67,7 +89,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 schoolPredicate = Optional.of(new SchoolContainsKeywordsPredicate(keywords));
             }
         }
-        Optional<Predicate<Person>> rolePredicate = Optional.empty();
+        Optional<PersonSearchPredicate> rolePredicate = Optional.empty();
         if (argMultimap.getValue(PREFIX_ROLE).isPresent()) {
             String value = argMultimap.getValue(PREFIX_ROLE).get();
             if (!value.isBlank()) {
@@ -78,7 +100,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 rolePredicate = Optional.of(new RoleContainsKeywordsPredicate(keywords));
             }
         }
-        Optional<Predicate<Person>> tagPredicate = Optional.empty();
+        Optional<PersonSearchPredicate> tagPredicate = Optional.empty();
         if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
             String value = argMultimap.getValue(PREFIX_TAG).get();
             if (!value.isBlank()) {
@@ -89,12 +111,62 @@ public class FindCommandParser implements Parser<FindCommand> {
                 tagPredicate = Optional.of(new TagContainsKeywordsPredicate(keywords));
             }
         }
+        Optional<PersonSearchPredicate> fuzzyNamePredicate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_NAME_FUZZY).isPresent()) {
+            String value = argMultimap.getValue(PREFIX_NAME_FUZZY).get();
+            if (!value.isBlank()) {
+                List<String> keywords = Arrays.asList(value.trim().split("\\s+"));
+                for (String keyword : keywords) {
+                    Name name = parseName(keyword); // validate name
+                }
+                fuzzyNamePredicate = Optional.of(new FuzzyKeywordsPredicate(Field.NAME, keywords));
+            }
+        }
+        Optional<PersonSearchPredicate> fuzzySchoolPredicate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_SCHOOL_FUZZY).isPresent()) {
+            String value = argMultimap.getValue(PREFIX_SCHOOL_FUZZY).get();
+            if (!value.isBlank()) {
+                List<String> keywords = Arrays.asList(value.trim().split("\\s+"));
+                for (String keyword : keywords) {
+                    School school = parseSchool(keyword); // validate school
+                }
+                fuzzySchoolPredicate = Optional.of(new FuzzyKeywordsPredicate(Field.SCHOOL, keywords));
+            }
+        }
+        Optional<PersonSearchPredicate> heightPredicate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_HEIGHT).isPresent()) {
+            String value = argMultimap.getValue(PREFIX_HEIGHT).get();
+            if (!value.isBlank()) {
+                heightPredicate = Optional.of(parseTenthsRange(value, NumericField.HEIGHT,
+                        Height.MINIMUM_HEIGHT, Height.MAXIMUM_HEIGHT));
+            }
+        }
+        Optional<PersonSearchPredicate> weightPredicate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_WEIGHT).isPresent()) {
+            String value = argMultimap.getValue(PREFIX_WEIGHT).get();
+            if (!value.isBlank()) {
+                weightPredicate = Optional.of(parseTenthsRange(value, NumericField.WEIGHT,
+                        Weight.MINIMUM_WEIGHT, Weight.MAXIMUM_WEIGHT));
+            }
+        }
+        Optional<PersonSearchPredicate> dobPredicate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_DOB).isPresent()) {
+            String value = argMultimap.getValue(PREFIX_DOB).get();
+            if (!value.isBlank()) {
+                dobPredicate = Optional.of(parseDobRange(value));
+            }
+        }
 
-        List<Predicate<Person>> predicates = new ArrayList<>();
+        List<PersonSearchPredicate> predicates = new ArrayList<>();
         namePredicate.ifPresent(predicates::add);
         schoolPredicate.ifPresent(predicates::add);
         rolePredicate.ifPresent(predicates::add);
         tagPredicate.ifPresent(predicates::add);
+        fuzzyNamePredicate.ifPresent(predicates::add);
+        fuzzySchoolPredicate.ifPresent(predicates::add);
+        heightPredicate.ifPresent(predicates::add);
+        weightPredicate.ifPresent(predicates::add);
+        dobPredicate.ifPresent(predicates::add);
 
         if (predicates.isEmpty()) {
             throw new ParseException(
@@ -102,13 +174,57 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
         assert !predicates.isEmpty() : "Predicates list should not be empty at this point";
 
-        Predicate<Person> combinedPredicate = predicates.get(0);
+        if (predicates.size() == 1) {
+            return new FindCommand(predicates.get(0));
+        }
+        return new FindCommand(new PersonMatchesAllPredicate(predicates));
+    }
 
-        for (int i = 1; i < predicates.size(); i++) {
-            combinedPredicate = combinedPredicate.and(predicates.get(i));
+    /**
+     * Parses {@code range}, such as "170-185" or "175.5", into a predicate on {@code field} in tenths.
+     * Both ends must be from {@code min} to {@code max}.
+     * @throws ParseException if the range is invalid or its start is after its end
+     */
+    private static FieldInRangePredicate parseTenthsRange(String range, NumericField field, int min, int max)
+            throws ParseException {
+        String[] bounds = range.trim().split("-", -1);
+        int lower = parseTenths(bounds[0].trim(), min, max);
+        int upper = bounds.length == 1 ? lower : parseTenths(bounds[1].trim(), min, max);
+        if (bounds.length > 2 || lower == INVALID_TENTHS || upper == INVALID_TENTHS || lower > upper) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_RANGE);
         }
+        return new FieldInRangePredicate(field, lower, upper);
+    }
 
-        return new FindCommand(combinedPredicate);
+    /**
+     * Parses {@code range}, such as "2008-2010" or "2008-06-01-2009-05-31", into a predicate on the date of birth.
+     * A year stands for all of its days.
+     * @throws ParseException if the range is invalid or its start is after its end
+     */
+    private static FieldInRangePredicate parseDobRange(String range) throws ParseException {
+        Matcher matcher = DOB_RANGE_FORMAT.matcher(range.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_RANGE);
+        }
+        String end = matcher.group(2) == null ? matcher.group(1) : matcher.group(2);
+        LocalDate from = parseDobBound(matcher.group(1), true);
+        LocalDate to = parseDobBound(end, false);
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new FieldInRangePredicate(NumericField.DOB, (int) from.toEpochDay(), (int) to.toEpochDay());
+    }
+
+    /**
+     * Returns the date in {@code bound}, or the first or last day of the year in it if {@code isStart} or not, or
+     * null if it is not a valid date.
+     */
+    private static LocalDate parseDobBound(String bound, boolean isStart) {
+        if (bound.length() == 4) {
+            int year = Integer.parseInt(bound);
+            return isStart ? LocalDate.of(year, 1, 1) : LocalDate.of(year, 12, 31);
+        }
+        return parseIsoDate(bound);
     }
 
 }
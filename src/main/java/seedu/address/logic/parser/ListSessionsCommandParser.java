@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_DATETIME;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.AddSessionCommand;
+import seedu.address.logic.commands.ListSessionsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListSessionsCommand.
+ */
+public class ListSessionsCommandParser implements Parser<ListSessionsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListSessionsCommand
+     * and returns a ListSessionsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ListSessionsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_START_DATETIME, PREFIX_END_DATETIME);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_START_DATETIME, PREFIX_END_DATETIME)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListSessionsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATETIME, PREFIX_END_DATETIME);
+
+        LocalDateTime start = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_START_DATETIME).get());
+        LocalDateTime end = ParserUtil.parseDateTime(argMultimap.getValue(PREFIX_END_DATETIME).get());
+        if (!start.isBefore(end)) {
+            throw new ParseException(AddSessionCommand.MESSAGE_INVALID_DATES);
+        }
+
+        return new ListSessionsCommand(start, end);
+    }
+
+    /**
+     * Returns true if all the prefixes contain non-empty values in the given {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
@@ -1,24 +1,44 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Dob;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.team.SessionCalendar;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.UniqueTeamList;
+import seedu.address.model.team.session.Session;
+import seedu.address.model.team.session.SessionTimeline;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Every person is assigned an id when added, which it keeps when edited. Ids count up from 1 and are not handed out
+ * again while the address book is in use.
+ * Every change is recorded in an undo history along with its inverse, and the changes made since the last
+ * {@link #commit()} are undone together.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTeamList teams;
+    private final List<AddressBookChange> changes = new ArrayList<>();
+    private final AddressBookHistory history = new AddressBookHistory();
+    private int nextPersonId = 1;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -35,21 +55,44 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}, with nothing to undo.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        history.clear();
     }
 
     //// list overwrite operations
 
     /**
      * Replaces the contents of the person list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons. Persons without an id, or with the id of an earlier person
+     * in {@code persons}, are assigned a new one.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        requireNonNull(persons);
+        // the persons are immutable, so undoing only needs the references to them, not copies
+        List<Person> previousPersons = List.copyOf(this.persons.asUnmodifiableObservableList());
+        // ids of persons that are no longer in the list stay used, so a stale reference cannot match a new person
+        nextPersonId = Math.max(nextPersonId, 1 + persons.stream()
+                .filter(person -> person.getId() != null)
+                .mapToInt(person -> person.getId().value)
+                .max().orElse(0));
+
+        Set<PersonId> usedIds = new HashSet<>();
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person personWithId = person.getId() == null || usedIds.contains(person.getId())
+                    ? person.withId(allocatePersonId())
+                    : person;
+            usedIds.add(personWithId.getId());
+            personsWithIds.add(personWithId);
+        }
+
+        this.persons.setPersons(personsWithIds);
+        recordChange(AddressBookChange.reset());
+        history.record(() -> setPersons(previousPersons));
     }
 
     /**
@@ -57,7 +100,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code teams} must not contain duplicate teams.
      */
     public void setTeams(List<Team> teams) {
+        List<Team> previousTeams = List.copyOf(this.teams.asUnmodifiableObservableList());
         this.teams.setTeams(teams);
+        recordChange(AddressBookChange.reset());
+        history.record(() -> setTeams(previousTeams));
     }
 
     /**
@@ -88,23 +134,91 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hasIdenticalPerson(person);
     }
 
+    /**
+     * Returns the person in the address book with the given name and date of birth, or null if there is none.
+     */
+    public Person getPerson(Name name, Dob dob) {
+        return persons.get(name, dob);
+    }
+
+    /**
+     * Returns the person in the address book with the given id, or null if there is none.
+     */
+    public Person getPerson(PersonId id) {
+        return persons.get(id);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
+     * The person keeps its id if it has one that is not in use, and is assigned a new one otherwise.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        addPerson(persons.asUnmodifiableObservableList().size(), p);
+    }
+
+    /**
+     * Adds a person to the address book at {@code index} in the person list, like {@link #addPerson(Person)}.
+     * {@code index} must be between 0 and the number of persons, inclusive.
+     */
+    public void addPerson(int index, Person p) {
+        requireNonNull(p);
+        Objects.checkIndex(index, persons.asUnmodifiableObservableList().size() + 1);
+        Person toAdd = p.getId() == null || persons.get(p.getId()) != null
+                ? p.withId(allocatePersonId())
+                : p;
+        nextPersonId = Math.max(nextPersonId, toAdd.getId().value + 1);
+
+        persons.add(index, toAdd);
+        boolean isLast = index == persons.asUnmodifiableObservableList().size() - 1;
+        recordChange(isLast ? AddressBookChange.addPerson(toAdd) : AddressBookChange.addPerson(toAdd, index));
+        history.record(() -> removePerson(toAdd));
+    }
+
+    /**
+     * Adds {@code toAdd} to the address book in one go, in order.
+     * None of the persons may already exist in the address book or be duplicates of each other.
+     * Each person keeps its id if it has one that is not in use, and is assigned a new one otherwise.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        Set<PersonId> usedIds = new HashSet<>();
+        List<Person> personsWithIds = new ArrayList<>(toAdd.size());
+        for (Person person : toAdd) {
+            Person personWithId = person.getId() == null || persons.get(person.getId()) != null
+                    || usedIds.contains(person.getId())
+                    ? person.withId(allocatePersonId())
+                    : person;
+            nextPersonId = Math.max(nextPersonId, personWithId.getId().value + 1);
+            usedIds.add(personWithId.getId());
+            personsWithIds.add(personWithId);
+        }
+
+        persons.addAll(personsWithIds);
+        personsWithIds.forEach(person -> recordChange(AddressBookChange.addPerson(person)));
+        history.record(() -> {
+            for (int i = personsWithIds.size() - 1; i >= 0; i--) {
+                removePerson(personsWithIds.get(i));
+            }
+        });
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * {@code editedPerson} takes over the id of {@code target}, so it also takes its place in any team.
      */
     public void setPerson(Person target, Person editedPerson) {
-        requireNonNull(editedPerson);
+        requireAllNonNull(target, editedPerson);
+
+        Person storedTarget = persons.get(target.getName(), target.getDob());
+        PersonId id = storedTarget == null ? null : storedTarget.getId();
+        Person storedEditedPerson = editedPerson.withId(id);
 
-        persons.setPerson(target, editedPerson);
+        persons.setPerson(target, storedEditedPerson);
+        recordChange(AddressBookChange.setPerson(target, storedEditedPerson));
+        history.record(() -> setPerson(storedEditedPerson, storedTarget));
     }
 
     /**
@@ -112,7 +226,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        Person storedKey = persons.get(key.getName(), key.getDob());
+        int index = persons.asUnmodifiableObservableList().indexOf(key);
         persons.remove(key);
+        recordChange(AddressBookChange.removePerson(key));
+        history.record(() -> addPerson(index, storedKey)); // with its id, so it can rejoin its team
     }
 
     /**
@@ -123,12 +241,44 @@ public class AddressBook implements ReadOnlyAddressBook {
         return teams.contains(team);
     }
 
+    /**
+     * Returns the team that {@code person} is a member of, or null if {@code person} is not in any team.
+     */
+    public Team getTeamOfPerson(Person person) {
+        requireNonNull(person);
+        Person storedPerson = persons.get(person.getName(), person.getDob());
+        return storedPerson == null ? null : teams.getTeamOf(storedPerson.getId());
+    }
+
+    /**
+     * Returns the members of {@code team}, ordered by id.
+     * The members must be in the address book.
+     */
+    public List<Person> getTeamMembers(Team team) {
+        requireNonNull(team);
+        return team.getMemberIds().stream()
+                .map(persons::get)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Adds a team to the address book.
-     * The team must not already exist in the address book.
+     * The team must not already exist in the address book, and its members must be in the address book.
      */
     public void addTeam(Team team) {
-        teams.add(team);
+        addTeam(teams.asUnmodifiableObservableList().size(), team);
+    }
+
+    /**
+     * Adds a team to the address book at {@code index} in the team list, like {@link #addTeam(Team)}.
+     * {@code index} must be between 0 and the number of teams, inclusive.
+     */
+    public void addTeam(int index, Team team) {
+        Objects.checkIndex(index, teams.asUnmodifiableObservableList().size() + 1);
+        teams.add(index, team);
+        boolean isLast = index == teams.asUnmodifiableObservableList().size() - 1;
+        recordChange(isLast ? AddressBookChange.addTeam(team) : AddressBookChange.addTeam(team, index));
+        history.record(() -> removeTeam(team));
     }
 
     /**
@@ -139,15 +289,120 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setTeam(Team target, Team editedTeam) {
         requireNonNull(editedTeam);
         teams.setTeam(target, editedTeam);
+        recordChange(AddressBookChange.setTeam(target, editedTeam));
+        history.record(() -> setTeam(editedTeam, target));
     }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
     public void removeTeam(Team key) {
         requireNonNull(key);
+        int index = teams.asUnmodifiableObservableList().indexOf(key);
         teams.remove(key);
+        recordChange(AddressBookChange.removeTeam(key));
+        history.record(() -> addTeam(index, key));
+    }
+
+    /**
+     * Adds {@code session} to the given team {@code target}.
+     * {@code target} must exist in the address book.
+     */
+    public void addSessionToTeam(Team target, Session session) {
+        requireNonNull(session);
+
+        // create a new Team instance with the extra session to avoid surprising side-effects;
+        // the new timeline shares most of its structure with the old one
+        SessionTimeline updatedSessions = target.getSessions().with(session);
+
+        Team updatedTeam = target.withSessions(updatedSessions);
+        teams.setTeam(target, updatedTeam);
+        recordChange(AddressBookChange.addSession(target, session));
+        history.record(() -> removeSessionFromTeam(updatedTeam, session));
     }
+
+    /**
+     * Removes {@code session} from the given team {@code target}.
+     * {@code target} must exist in the address book and {@code session} must be one of its sessions.
+     */
+    public void removeSessionFromTeam(Team target, Session session) {
+        requireNonNull(session);
+
+        SessionTimeline updatedSessions = target.getSessions().without(session);
+        if (updatedSessions == target.getSessions()) {
+            throw new IllegalArgumentException("Session not found in the target team.");
+        }
+
+        Team updatedTeam = target.withSessions(updatedSessions);
+        teams.setTeam(target, updatedTeam);
+        recordChange(AddressBookChange.removeSession(target, session));
+        history.record(() -> addSessionToTeam(updatedTeam, session));
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the changes made to this address book since the last call to this method, oldest first,
+     * and forgets them.
+     * A {@code RESET} change is always the only change returned, since it supersedes every change before it and
+     * callers have to look at the whole address book anyway.
+     */
+    public List<AddressBookChange> takeChanges() {
+        List<AddressBookChange> taken = new ArrayList<>(changes);
+        changes.clear();
+        return taken;
+    }
+
+    //// undo history
+
+    /**
+     * Makes the changes since the last commit a single step that can be undone, such as the changes of one command.
+     */
+    public void commit() {
+        history.commit();
+    }
+
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Undoes the changes of the latest committed step. The undoing is itself recorded as changes to save.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo() {
+        history.undo();
+    }
+
+    /**
+     * Redoes the changes of the latest undone step.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo() {
+        history.redo();
+    }
+
+    private PersonId allocatePersonId() {
+        return new PersonId(nextPersonId++);
+    }
+
+    private void recordChange(AddressBookChange change) {
+        boolean isAfterReset = !changes.isEmpty() && changes.get(0).getType() == AddressBookChange.Type.RESET;
+        if (change.getType() == AddressBookChange.Type.RESET || isAfterReset) {
+            changes.clear();
+            changes.add(AddressBookChange.reset());
+            return;
+        }
+        changes.add(change);
+    }
+
     //// util methods
 
     @Override
@@ -163,6 +418,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the keyword search index over the persons in this address book.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns the calendar of the sessions of all teams in this address book.
+     */
+    public SessionCalendar getSessionCalendar() {
+        return teams.getSessionCalendar();
+    }
+
     @Override
     public ObservableList<Team> getTeamList() {
         return teams.asUnmodifiableObservableList();
@@ -0,0 +1,231 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.session.Session;
+
+/**
+ * Represents a single change made to an {@code AddressBook}.
+ * Replaying the changes made to an address book, in order, on a copy of its earlier contents yields its current
+ * contents. Guarantees: immutable.
+ */
+public class AddressBookChange {
+
+    /**
+     * Kinds of changes that can be made to an {@code AddressBook}.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON,
+        ADD_TEAM, SET_TEAM, REMOVE_TEAM,
+        ADD_SESSION, REMOVE_SESSION,
+        /** The whole address book was replaced. */
+        RESET
+    }
+
+    public static final String MESSAGE_INVALID_INDEX = "The index of an added person or team cannot be negative";
+
+    private static final AddressBookChange RESET = new AddressBookChange(Type.RESET, null, null, null, null, null, -1);
+
+    private final Type type;
+    private final Person person;
+    private final Person editedPerson;
+    private final Team team;
+    private final Team editedTeam;
+    private final Session session;
+    private final int index;
+
+    private AddressBookChange(Type type, Person person, Person editedPerson, Team team, Team editedTeam,
+            Session session, int index) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.team = team;
+        this.editedTeam = editedTeam;
+        this.session = session;
+        this.index = index;
+    }
+
+    /**
+     * Returns a change that adds {@code person} at the end of the person list.
+     */
+    public static AddressBookChange addPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD_PERSON, person, null, null, null, null, -1);
+    }
+
+    /**
+     * Returns a change that adds {@code person} at {@code index} in the person list.
+     */
+    public static AddressBookChange addPerson(Person person, int index) {
+        requireNonNull(person);
+        checkArgument(index >= 0, MESSAGE_INVALID_INDEX);
+        return new AddressBookChange(Type.ADD_PERSON, person, null, null, null, null, index);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static AddressBookChange setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new AddressBookChange(Type.SET_PERSON, target, editedPerson, null, null, null, -1);
+    }
+
+    /**
+     * Returns a change that removes {@code person}.
+     */
+    public static AddressBookChange removePerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.REMOVE_PERSON, person, null, null, null, null, -1);
+    }
+
+    /**
+     * Returns a change that adds {@code team} at the end of the team list.
+     */
+    public static AddressBookChange addTeam(Team team) {
+        requireNonNull(team);
+        return new AddressBookChange(Type.ADD_TEAM, null, null, team, null, null, -1);
+    }
+
+    /**
+     * Returns a change that adds {@code team} at {@code index} in the team list.
+     */
+    public static AddressBookChange addTeam(Team team, int index) {
+        requireNonNull(team);
+        checkArgument(index >= 0, MESSAGE_INVALID_INDEX);
+        return new AddressBookChange(Type.ADD_TEAM, null, null, team, null, null, index);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedTeam}.
+     */
+    public static AddressBookChange setTeam(Team target, Team editedTeam) {
+        requireAllNonNull(target, editedTeam);
+        return new AddressBookChange(Type.SET_TEAM, null, null, target, editedTeam, null, -1);
+    }
+
+    /**
+     * Returns a change that removes {@code team}.
+     */
+    public static AddressBookChange removeTeam(Team team) {
+        requireNonNull(team);
+        return new AddressBookChange(Type.REMOVE_TEAM, null, null, team, null, null, -1);
+    }
+
+    /**
+     * Returns a change that adds {@code session} to {@code team}.
+     */
+    public static AddressBookChange addSession(Team team, Session session) {
+        requireAllNonNull(team, session);
+        return new AddressBookChange(Type.ADD_SESSION, null, null, team, null, session, -1);
+    }
+
+    /**
+     * Returns a change that removes {@code session} from {@code team}.
+     */
+    public static AddressBookChange removeSession(Team team, Session session) {
+        requireAllNonNull(team, session);
+        return new AddressBookChange(Type.REMOVE_SESSION, null, null, team, null, session, -1);
+    }
+
+    /**
+     * Returns a change that replaces the whole address book.
+     */
+    public static AddressBookChange reset() {
+        return RESET;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person added or removed, or the person replaced by a {@code SET_PERSON} change.
+     * Returns null for changes that do not involve a person.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the replacement person of a {@code SET_PERSON} change, or null for other changes.
+     */
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    /**
+     * Returns the team added or removed, the team replaced by a {@code SET_TEAM} change, or the team a session was
+     * added to or removed from. Returns null for changes that do not involve a team.
+     */
+    public Team getTeam() {
+        return team;
+    }
+
+    /**
+     * Returns the replacement team of a {@code SET_TEAM} change, or null for other changes.
+     */
+    public Team getEditedTeam() {
+        return editedTeam;
+    }
+
+    /**
+     * Returns the session added or removed, or null for changes that do not involve a session.
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Returns the position in its list that the person or team of an add change was added at, or -1 if it was added
+     * at the end of the list or the change is not an add.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type.equals(otherChange.type)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(editedPerson, otherChange.editedPerson)
+                && Objects.equals(team, otherChange.team)
+                && Objects.equals(editedTeam, otherChange.editedTeam)
+                && Objects.equals(session, otherChange.session)
+                && index == otherChange.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, person, editedPerson, team, editedTeam, session, index);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("editedPerson", editedPerson)
+                .add("team", team)
+                .add("editedTeam", editedTeam)
+                .add("session", session)
+                .add("index", index)
+                .toString();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The undo and redo history of an {@code AddressBook}.
+ *
+ * Instead of a copy of the address book, each entry holds the inverse of each change made by one command, which
+ * refers to the persons, teams and sessions that the change replaced. Undoing an entry applies its inverses, newest
+ * first, and since those are changes to the address book too, their own inverses become the entry that redoes it.
+ * Only the latest {@code capacity} entries are kept.
+ */
+public class AddressBookHistory {
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private final int capacity;
+    private final Deque<List<Runnable>> undoEntries = new ArrayDeque<>();
+    private final Deque<List<Runnable>> redoEntries = new ArrayDeque<>();
+    private List<Runnable> uncommitted = new ArrayList<>();
+
+    public AddressBookHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history that keeps the latest {@code capacity} entries.
+     */
+    public AddressBookHistory(int capacity) {
+        checkArgument(capacity > 0, "The history must hold at least one entry.");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records {@code inverse}, which undoes the latest change, as part of the next entry.
+     */
+    public void record(Runnable inverse) {
+        requireNonNull(inverse);
+        uncommitted.add(inverse);
+    }
+
+    /**
+     * Makes the changes recorded since the last commit one entry that can be undone, and forgets the entries that
+     * could be redone. Does nothing if no change was recorded.
+     */
+    public void commit() {
+        if (uncommitted.isEmpty()) {
+            return;
+        }
+        push(undoEntries, takeUncommitted());
+        redoEntries.clear();
+    }
+
+    public boolean canUndo() {
+        return !undoEntries.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Undoes the latest entry, which can then be redone.
+     *
+     * @throws IllegalStateException if there is no entry to undo.
+     */
+    public void undo() {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("There is nothing to undo.");
+        }
+        apply(undoEntries.pop());
+        push(redoEntries, takeUncommitted());
+    }
+
+    /**
+     * Redoes the latest undone entry, which can then be undone again.
+     *
+     * @throws IllegalStateException if there is no entry to redo.
+     */
+    public void redo() {
+        if (!uncommitted.isEmpty() || !canRedo()) {
+            throw new IllegalStateException("There is nothing to redo.");
+        }
+        apply(redoEntries.pop());
+        push(undoEntries, takeUncommitted());
+    }
+
+    /**
+     * Forgets every entry, and the changes recorded since the last commit.
+     */
+    public void clear() {
+        undoEntries.clear();
+        redoEntries.clear();
+        uncommitted = new ArrayList<>();
+    }
+
+    private static void apply(List<Runnable> entry) {
+        for (int i = entry.size() - 1; i >= 0; i--) {
+            entry.get(i).run();
+        }
+    }
+
+    private void push(Deque<List<Runnable>> entries, List<Runnable> entry) {
+        entries.push(entry);
+        if (entries.size() > capacity) {
+            entries.removeLast();
+        }
+    }
+
+    private List<Runnable> takeUncommitted() {
+        List<Runnable> taken = uncommitted;
+        uncommitted = new ArrayList<>();
+        return taken;
+    }
+}
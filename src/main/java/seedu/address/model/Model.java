@@ -1,12 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.team.ScheduledSession;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.session.Location;
 import seedu.address.model.team.session.Session;
 
 /**
@@ -63,6 +67,46 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the changes made to the address book since the last call to this method, oldest first.
+     * Returns an empty list if the address book has not changed.
+     */
+    List<AddressBookChange> takeAddressBookChanges();
+
+    /**
+     * Makes the changes to the address book since the last commit a single step that can be undone.
+     * Called once after each command.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed step to undo.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest committed step.
+     * There must be a step to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state before the latest undo.
+     * There must be a step to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Returns the time spent recomputing the filtered lists for new predicates since the last call to this method,
+     * in nanoseconds.
+     */
+    long takeFilterNanos();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -85,6 +129,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in one go, in order.
+     * None of {@code persons} may already exist in the address book or be duplicates of each other.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -147,10 +197,15 @@ public interface Model {
      * Returns the team that the person belongs to.
      *
      * @param person The person whose team is to be retrieved.
-     * @return The team of the person.
+     * @return The team of the person, or null if the person is not in any team.
      */
     public Team getTeamOfPerson(Person person);
 
+    /**
+     * Returns the members of {@code team}, which must be in the address book.
+     */
+    List<Person> getTeamMembers(Team team);
+
     /**
      * Updates the filter of the filtered team list to filter by the given {@code predicate}.
      *
@@ -161,4 +216,16 @@ public interface Model {
     void addSessionToTeam(Team target, Session session);
 
     void deleteSession(Team team, Session toDelete);
+
+    /**
+     * Returns the sessions of all teams that overlap the time range from {@code from} to {@code to}, in
+     * chronological order.
+     */
+    List<ScheduledSession> getSessionsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the sessions of all teams at {@code location} that overlap the time range from {@code from} to
+     * {@code to}, in chronological order.
+     */
+    List<ScheduledSession> getSessionsAt(Location location, LocalDateTime from, LocalDateTime to);
 }
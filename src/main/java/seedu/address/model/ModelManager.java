@@ -4,17 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchPredicate;
+import seedu.address.model.team.ScheduledSession;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.session.Location;
 import seedu.address.model.team.session.Session;
 
 /**
@@ -26,7 +31,9 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Team> filteredTeams;
+    private long filterNanos = 0;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -37,8 +44,10 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        this.addressBook.takeChanges(); // the initial contents are not a change
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredTeams = new FilteredList<>(this.addressBook.getTeamList());
     }
 
@@ -93,6 +102,43 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public List<AddressBookChange> takeAddressBookChanges() {
+        return addressBook.takeChanges();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+    }
+
+    @Override
+    public long takeFilterNanos() {
+        long nanos = filterNanos;
+        filterNanos = 0;
+        return nanos;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -116,6 +162,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -160,17 +213,34 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, ranked by the last search predicate if it ranks its matches.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * A {@code PersonSearchPredicate} is resolved against the keyword search index once, so the filtered list only
+     * needs a set lookup per person, and the matches are listed in the order of its ranking, if it has one.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        long start = System.nanoTime();
+        if (predicate instanceof PersonSearchPredicate) {
+            PersonSearchPredicate searchPredicate = (PersonSearchPredicate) predicate;
+            Set<Person> matches = searchPredicate.getMatches(addressBook.getPersonSearchIndex());
+            // unranked first, so that the matches are sorted once
+            sortedPersons.setComparator(null);
+            filteredPersons.setPredicate(matches::contains);
+            sortedPersons.setComparator(searchPredicate.getRanking(matches));
+        } else {
+            sortedPersons.setComparator(null);
+            filteredPersons.setPredicate(predicate);
+        }
+        filterNanos += System.nanoTime() - start;
     }
 
     @Override
@@ -198,43 +268,45 @@ public class ModelManager implements Model {
 
     @Override
     public Team getTeamOfPerson(Person person) {
-        return addressBook.getTeamList().stream()
-                .filter(team -> team.hasMember(person))
-                .findFirst()
-                .orElse(null);
+        requireNonNull(person);
+        return addressBook.getTeamOfPerson(person);
+    }
+
+    @Override
+    public List<Person> getTeamMembers(Team team) {
+        requireNonNull(team);
+        return addressBook.getTeamMembers(team);
     }
 
     @Override
     public void updateFilteredTeamList(Predicate<Team> predicate) {
         requireNonNull(predicate);
+        long start = System.nanoTime();
         filteredTeams.setPredicate(predicate);
+        filterNanos += System.nanoTime() - start;
     }
 
     @Override
     public void addSessionToTeam(Team target, Session session) {
         requireAllNonNull(target, session);
-
-        // create a new Team instance with the extra session to avoid surprising side-effects
-        Set<Session> updatedSessions = new HashSet<>(target.getSessions());
-        updatedSessions.add(session);
-
-        Team updatedTeam = new Team(target.getName(), target.getMembers(), updatedSessions);
-
-        // delegate to AddressBook to replace the old team with the updated one
-        addressBook.setTeam(target, updatedTeam);
+        addressBook.addSessionToTeam(target, session);
     }
 
     @Override
     public void deleteSession(Team target, Session toDelete) {
         requireAllNonNull(target, toDelete);
-        Set<Session> updatedSessions = new HashSet<>(target.getSessions());
+        addressBook.removeSessionFromTeam(target, toDelete);
+    }
 
-        boolean removed = updatedSessions.remove(toDelete);
-        if (!removed) {
-            throw new IllegalArgumentException("Session not found in the target team.");
-        }
+    @Override
+    public List<ScheduledSession> getSessionsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getSessionCalendar().getSessionsBetween(from, to);
+    }
 
-        Team updatedTeam = new Team(target.getName(), target.getMembers(), updatedSessions);
-        addressBook.setTeam(target, updatedTeam);
+    @Override
+    public List<ScheduledSession> getSessionsAt(Location location, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(location, from, to);
+        return addressBook.getSessionCalendar().getSessionsAt(location, from, to);
     }
 }
@@ -1,11 +1,9 @@
 package seedu.address.model.person;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.time.format.ResolverStyle;
 
 import seedu.address.commons.util.AppUtil;
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's Date of Birth (DOB).
@@ -17,11 +15,8 @@ public class Dob {
             "Date of Birth must be a valid calendar date in the format YYYY-MM-DD.\n"
                     + "Must not be blank (only whitespaces), and must not be a future date.";
 
-    private static final DateTimeFormatter DOB_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd")
-            .withResolverStyle(ResolverStyle.STRICT);
-
     public final String value;
-    private final LocalDate dateValue;
+    private final int epochDay;
 
     /**
      * Constructs a {@code Dob}.
@@ -29,25 +24,36 @@ public class Dob {
      * @param dob A valid date in YYYY-MM-DD format.
      */
     public Dob(String dob) {
-        AppUtil.checkArgument(isValidDob(dob), MESSAGE_CONSTRAINTS);
+        LocalDate dateValue = parseDob(dob);
+        AppUtil.checkArgument(dateValue != null, MESSAGE_CONSTRAINTS);
         this.value = dob;
-        this.dateValue = LocalDate.parse(dob, DOB_FORMATTER);
+        this.epochDay = (int) dateValue.toEpochDay();
     }
 
     /**
      * Returns true if a given string is a valid date of birth.
      */
     public static boolean isValidDob(String test) {
-        try {
-            LocalDate parsedDate = LocalDate.parse(test, DOB_FORMATTER);
-            return !parsedDate.isAfter(LocalDate.now());
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return parseDob(test) != null;
+    }
+
+    /**
+     * Returns the date of birth in {@code test}, or null if it is not a valid date of birth.
+     */
+    private static LocalDate parseDob(String test) {
+        LocalDate parsedDate = ValidationUtil.parseIsoDate(test);
+        return parsedDate == null || parsedDate.isAfter(LocalDate.now()) ? null : parsedDate;
     }
 
     public LocalDate getDateValue() {
-        return dateValue;
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the date of birth as the number of days since 1970-01-01, which is negative for earlier dates.
+     */
+    public int getEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -64,11 +70,11 @@ public class Dob {
             return false;
         }
         Dob otherDob = (Dob) other;
-        return otherDob.dateValue.equals(this.dateValue);
+        return otherDob.epochDay == this.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return dateValue.hashCode();
+        return Integer.hashCode(epochDay);
     }
 }
@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonSearchIndex.NumericField;
+
+/**
+ * Tests that a numeric field of a {@code Person} is within a range, such as a height from 170 to 185 cm.
+ */
+public class FieldInRangePredicate implements PersonSearchPredicate {
+    private final NumericField field;
+    private final int min;
+    private final int max;
+
+    /**
+     * Creates a predicate that is satisfied when {@code field} is from {@code min} to {@code max}, inclusive, in the
+     * units of {@link NumericField#getValue(Person)}.
+     */
+    public FieldInRangePredicate(NumericField field, int min, int max) {
+        requireNonNull(field);
+        this.field = field;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        assert person != null : "Person should not be null";
+        int value = field.getValue(person);
+        return value >= min && value <= max;
+    }
+
+    @Override
+    public Set<Person> getMatches(PersonSearchIndex index) {
+        return index.getPersonsBetween(field, min, max);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldInRangePredicate)) {
+            return false;
+        }
+
+        FieldInRangePredicate otherFieldInRangePredicate = (FieldInRangePredicate) other;
+        return field == otherFieldInRangePredicate.field
+                && min == otherFieldInRangePredicate.min
+                && max == otherFieldInRangePredicate.max;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("min", min)
+                .add("max", max)
+                .toString();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonSearchIndex.Field;
+
+/**
+ * Tests that a field of a {@code Person} has a word close to any of the keywords given, allowing for typos.
+ * The matches are ranked by how close their closest word is.
+ */
+public class FuzzyKeywordsPredicate implements PersonSearchPredicate {
+    private final Field field;
+    private final List<String> keywords;
+    private final String[] foldedKeywords;
+
+    /**
+     * Creates a predicate that is satisfied when any of the words of {@code field} is within
+     * {@link PersonSearchIndex#getMaxEditDistance(String)} typos of one of {@code keywords}, ignoring case.
+     */
+    public FuzzyKeywordsPredicate(Field field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        checkArgument(field.isFuzzySearchable(), field + " cannot be searched fuzzily.");
+        this.field = field;
+        this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        assert person != null : "Person should not be null";
+        return getDistance(person) != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public Set<Person> getMatches(PersonSearchIndex index) {
+        return index.getPersonsNearAny(field, keywords);
+    }
+
+    /**
+     * Ranks the persons with an exact match first, then those with a word one typo away, and so on.
+     */
+    @Override
+    public Comparator<Person> getRanking(Set<Person> matches) {
+        Map<Person, Integer> distances = new HashMap<>();
+        for (Person match : matches) {
+            distances.put(match, getDistance(match));
+        }
+        return Comparator.comparingInt(person -> distances.getOrDefault(person, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Returns the number of typos between the closest word of the field of {@code person} and a keyword, or
+     * {@code Integer.MAX_VALUE} if no word is close enough to any keyword.
+     */
+    private int getDistance(Person person) {
+        int minDistance = Integer.MAX_VALUE;
+        for (String keyword : foldedKeywords) {
+            int maxDistance = PersonSearchIndex.getMaxEditDistance(keyword);
+            for (String word : PersonSearchIndex.getWords(person, field)) {
+                int distance = StringUtil.getEditDistance(keyword, word, maxDistance);
+                if (distance <= maxDistance) {
+                    minDistance = Math.min(minDistance, distance);
+                }
+            }
+        }
+        return minDistance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyKeywordsPredicate)) {
+            return false;
+        }
+
+        FuzzyKeywordsPredicate otherFuzzyKeywordsPredicate = (FuzzyKeywordsPredicate) other;
+        return field.equals(otherFuzzyKeywordsPredicate.field)
+                && keywords.equals(otherFuzzyKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("keywords", keywords).toString();
+    }
+}
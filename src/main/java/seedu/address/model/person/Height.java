@@ -2,6 +2,9 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.INVALID_TENTHS;
+import static seedu.address.commons.util.ValidationUtil.formatTenths;
+import static seedu.address.commons.util.ValidationUtil.parseTenths;
 
 /**
  * Represents a Person's height in the RelayCoach app.
@@ -9,6 +12,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  */
 public class Height {
 
+    public static final int MINIMUM_HEIGHT = 50;
+    public static final int MAXIMUM_HEIGHT = 300;
     public static final String MESSAGE_CONSTRAINTS =
             "Heights should be a positive number between 50 and 300 cm, and may include up to one decimal place."
             + "\nHeight must not be blank (only whitespaces).";
@@ -22,6 +27,7 @@ public class Height {
             "^(?:[5-9]\\d(?:\\.\\d)?|1\\d{2}(?:\\.\\d)?|2\\d{2}(?:\\.\\d)?|300(?:\\.0)?)$";
 
     public final String value;
+    private final int tenths;
 
     /**
      * Constructs a {@code Height}.
@@ -30,15 +36,24 @@ public class Height {
      */
     public Height(String height) {
         requireNonNull(height);
-        checkArgument(isValidHeight(height), MESSAGE_CONSTRAINTS);
-        this.value = String.format("%.1f", Float.parseFloat(height)); //ensure only 1 decimal place
+        int tenths = parseTenths(height, MINIMUM_HEIGHT, MAXIMUM_HEIGHT);
+        checkArgument(tenths != INVALID_TENTHS, MESSAGE_CONSTRAINTS);
+        this.tenths = tenths;
+        this.value = formatTenths(tenths); //ensure only 1 decimal place
     }
 
     /**
      * Returns true if a given string is a valid height.
      */
     public static boolean isValidHeight(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return parseTenths(test, MINIMUM_HEIGHT, MAXIMUM_HEIGHT) != INVALID_TENTHS;
+    }
+
+    /**
+     * Returns the height in tenths of a cm, e.g. 1755 for 175.5 cm.
+     */
+    public int getTenths() {
+        return tenths;
     }
 
     @Override
@@ -50,11 +65,11 @@ public class Height {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Height // instanceof handles nulls
-                && value.equals(((Height) other).value)); // state check
+                && tenths == ((Height) other).tenths); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(tenths);
     }
 }
@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,19 +9,29 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements PersonSearchPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that is satisfied when any of the words of the name is one of {@code keywords}, ignoring
+     * case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null : "Person should not be null";
         assert person.getRole() != null : "Person's role should not be null";
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return StringUtil.containsAnyWord(person.getNameWords(), foldedKeywords);
+    }
+
+    @Override
+    public Set<Person> getMatches(PersonSearchIndex index) {
+        return index.getPersonsMatchingAny(PersonSearchIndex.Field.NAME, keywords);
     }
 
     @Override
@@ -6,16 +6,23 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person in an address book also has an id assigned by the address book, which other records use to refer to the
+ * person. The id is not one of the person's details and is ignored when comparing persons.
  */
 public class Person {
 
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -30,12 +37,28 @@ public class Person {
     private final Weight weight;
     private final School school;
 
+    // Case-folded words of the searchable fields, see StringUtil#toFoldedWords
+    private final String[] nameWords;
+    private final String[] schoolWords;
+    private final String[] roleWords;
+    private final String[] tagWords;
+
     /**
      * Every field must be present and not null.
+     * The person has no id until it is added to an address book.
      */
     public Person(Name name, Dob dob, Phone phone, Email email, Address address, School school,
                   Role role, Height height, Weight weight, Set<Tag> tags) {
+        this(null, name, dob, phone, email, address, school, role, height, weight, tags);
+    }
+
+    /**
+     * Every field except {@code id} must be present and not null.
+     */
+    public Person(PersonId id, Name name, Dob dob, Phone phone, Email email, Address address, School school,
+                  Role role, Height height, Weight weight, Set<Tag> tags) {
         requireAllNonNull(name, dob, phone, email, address, tags, role, school, height, weight);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -46,6 +69,27 @@ public class Person {
         this.school = school;
         this.height = height;
         this.weight = weight;
+
+        this.nameWords = StringUtil.toFoldedWords(name.fullName);
+        this.schoolWords = StringUtil.toFoldedWords(school.value);
+        this.roleWords = StringUtil.toFoldedWords(role.value);
+        this.tagWords = this.tags.stream()
+                .flatMap(tag -> Stream.of(StringUtil.toFoldedWords(tag.tagName)))
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns the id assigned to this person by the address book, or null if it has not been assigned one.
+     */
+    public PersonId getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this person with the given id.
+     */
+    public Person withId(PersonId id) {
+        return new Person(id, name, dob, phone, email, address, school, role, height, weight, tags);
     }
 
     public Name getName() {
@@ -92,6 +136,34 @@ public class Person {
         return school;
     }
 
+    /**
+     * Returns the case-folded words of the name. The array must not be modified.
+     */
+    String[] getNameWords() {
+        return nameWords;
+    }
+
+    /**
+     * Returns the case-folded words of the school. The array must not be modified.
+     */
+    String[] getSchoolWords() {
+        return schoolWords;
+    }
+
+    /**
+     * Returns the case-folded words of the role. The array must not be modified.
+     */
+    String[] getRoleWords() {
+        return roleWords;
+    }
+
+    /**
+     * Returns the case-folded words of all tags. The array must not be modified.
+     */
+    String[] getTagWords() {
+        return tagWords;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
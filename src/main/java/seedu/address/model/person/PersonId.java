@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the id of a Person in the address book.
+ * Ids are assigned by the address book, counting up from 1, and stay the same when the person is edited, so other
+ * records can refer to a person by id alone.
+ * Guarantees: immutable; is valid as declared in {@link #isValidId(int)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Person ids should be positive integers";
+
+    public final int value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid id.
+     */
+    public PersonId(int id) {
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        value = id;
+    }
+
+    /**
+     * Returns true if a given integer is a valid id.
+     */
+    public static boolean isValidId(int test) {
+        return test > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value == otherPersonId.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} satisfies all of the given search predicates.
+ */
+public class PersonMatchesAllPredicate implements PersonSearchPredicate {
+    private final List<PersonSearchPredicate> predicates;
+
+    /**
+     * Creates a predicate that is satisfied only when every one of {@code predicates} is satisfied.
+     */
+    public PersonMatchesAllPredicate(List<PersonSearchPredicate> predicates) {
+        requireNonNull(predicates);
+        this.predicates = new ArrayList<>(predicates);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return predicates.stream().allMatch(predicate -> predicate.test(person));
+    }
+
+    @Override
+    public Set<Person> getMatches(PersonSearchIndex index) {
+        assert !predicates.isEmpty() : "There should be at least one predicate to match";
+
+        // intersect starting from the smallest posting set to keep the result small
+        List<Set<Person>> allMatches = new ArrayList<>();
+        for (PersonSearchPredicate predicate : predicates) {
+            allMatches.add(predicate.getMatches(index));
+        }
+        allMatches.sort((first, second) -> first.size() - second.size());
+
+        Set<Person> matches = allMatches.get(0);
+        for (int i = 1; i < allMatches.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(allMatches.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the rankings of the predicates that have one, each breaking the ties of the ones before it.
+     */
+    @Override
+    public Comparator<Person> getRanking(Set<Person> matches) {
+        Comparator<Person> ranking = null;
+        for (PersonSearchPredicate predicate : predicates) {
+            Comparator<Person> predicateRanking = predicate.getRanking(matches);
+            if (predicateRanking != null) {
+                ranking = ranking == null ? predicateRanking : ranking.thenComparing(predicateRanking);
+            }
+        }
+        return ranking;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesAllPredicate)) {
+            return false;
+        }
+
+        PersonMatchesAllPredicate otherPersonMatchesAllPredicate = (PersonMatchesAllPredicate) other;
+        return predicates.equals(otherPersonMatchesAllPredicate.predicates);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from case-folded words to the persons whose searchable fields contain them.
+ * Words are split on whitespace and compared ignoring case, in the same way as
+ * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * The distinct words of the fields that can be searched fuzzily are also indexed by their trigrams, so the words
+ * within a few typos of a keyword can be found without comparing the keyword with every word.
+ *
+ * The persons are also sorted by each numeric field, so the persons with values in a range are found by binary
+ * search.
+ *
+ * The index is kept in sync by {@link UniquePersonList}; other classes may only query it.
+ */
+public class PersonSearchIndex {
+
+    /**
+     * Fields of a {@code Person} that can be searched by keyword.
+     */
+    public enum Field {
+        NAME(true), SCHOOL(true), ROLE(false), TAG(false);
+
+        private final boolean isFuzzySearchable;
+
+        Field(boolean isFuzzySearchable) {
+            this.isFuzzySearchable = isFuzzySearchable;
+        }
+
+        /**
+         * Returns true if the field can be searched with {@link #getPersonsNearAny(Field, List)}.
+         */
+        public boolean isFuzzySearchable() {
+            return isFuzzySearchable;
+        }
+    }
+
+    /**
+     * Fields of a {@code Person} that can be searched by range, as ints: heights and weights in tenths, and dates of
+     * birth in days since 1970-01-01.
+     */
+    public enum NumericField {
+        HEIGHT(person -> person.getHeight().getTenths()),
+        WEIGHT(person -> person.getWeight().getTenths()),
+        DOB(person -> person.getDob().getEpochDay());
+
+        private final ToIntFunction<Person> valueFunction;
+
+        NumericField(ToIntFunction<Person> valueFunction) {
+            this.valueFunction = valueFunction;
+        }
+
+        /**
+         * Returns the value of this field of {@code person}.
+         */
+        public int getValue(Person person) {
+            return valueFunction.applyAsInt(person);
+        }
+    }
+
+    /** Words are padded with this before being split into trigrams, so their first and last letters count twice. */
+    private static final String TRIGRAM_PADDING = "  ";
+
+    private final Map<Field, Map<String, Set<Person>>> postings = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, Set<String>>> trigramPostings = new EnumMap<>(Field.class);
+    private final Map<NumericField, SortedPersonIndex> sortedIndexes = new EnumMap<>(NumericField.class);
+
+    /**
+     * Creates an empty {@code PersonSearchIndex}.
+     */
+    public PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+            if (field.isFuzzySearchable()) {
+                trigramPostings.put(field, new HashMap<>());
+            }
+        }
+        for (NumericField field : NumericField.values()) {
+            sortedIndexes.put(field, new SortedPersonIndex(field::getValue));
+        }
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains any of the {@code keywords}.
+     * The returned set is a new set and may be modified by the caller.
+     */
+    public Set<Person> getPersonsMatchingAny(Field field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            matches.addAll(fieldPostings.getOrDefault(StringUtil.foldCase(keyword.trim()), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose {@code field} is from {@code min} to {@code max}, inclusive.
+     * The returned set is a new set and may be modified by the caller.
+     */
+    public Set<Person> getPersonsBetween(NumericField field, int min, int max) {
+        requireNonNull(field);
+        return sortedIndexes.get(field).getPersonsBetween(min, max);
+    }
+
+    /**
+     * Returns the persons whose {@code field} contains a word within {@link #getMaxEditDistance(String)} typos of any
+     * of the {@code keywords}, ignoring case. A typo is a missing, extra or wrong letter, or two swapped letters.
+     * The returned set is a new set and may be modified by the caller.
+     *
+     * Only the words that share enough trigrams with a keyword to be within that many typos of it are compared with
+     * the keyword.
+     */
+    public Set<Person> getPersonsNearAny(Field field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        checkArgument(field.isFuzzySearchable(), field + " cannot be searched fuzzily.");
+
+        Map<String, Set<Person>> fieldPostings = postings.get(field);
+        Set<Person> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            for (String word : getWordsNear(field, StringUtil.foldCase(keyword.trim()))) {
+                matches.addAll(fieldPostings.get(word));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of typos allowed in a word that is fuzzily searched for: none in words of up to 2 letters,
+     * one in words of up to 6 letters, and two in longer words.
+     */
+    public static int getMaxEditDistance(String keyword) {
+        return keyword.length() <= 2 ? 0 : keyword.length() <= 6 ? 1 : 2;
+    }
+
+    /**
+     * Returns the indexed words of {@code field} within {@link #getMaxEditDistance(String)} typos of
+     * {@code foldedKeyword}.
+     *
+     * A typo changes at most 4 of the trigrams of a word, so a word with n trigrams that is within k typos of the
+     * keyword shares at least n - 4k of the keyword's trigrams, and only such words need to be compared. With the
+     * padding and the allowed typos, that is at least one trigram for every keyword.
+     */
+    private List<String> getWordsNear(Field field, String foldedKeyword) {
+        int maxDistance = getMaxEditDistance(foldedKeyword);
+        Set<String> keywordTrigrams = getTrigrams(foldedKeyword);
+        int minSharedTrigrams = Math.max(1, keywordTrigrams.size() - 4 * maxDistance);
+
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        Map<String, Integer> sharedTrigramCounts = new HashMap<>();
+        for (String trigram : keywordTrigrams) {
+            for (String word : fieldTrigramPostings.getOrDefault(trigram, Collections.emptySet())) {
+                sharedTrigramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        List<String> words = new ArrayList<>();
+        sharedTrigramCounts.forEach((word, sharedTrigramCount) -> {
+            if (sharedTrigramCount >= minSharedTrigrams
+                    && StringUtil.getEditDistance(foldedKeyword, word, maxDistance) <= maxDistance) {
+                words.add(word);
+            }
+        });
+        return words;
+    }
+
+    /**
+     * Indexes the searchable fields of {@code person}.
+     */
+    void add(Person person) {
+        addWords(person);
+        sortedIndexes.values().forEach(index -> index.add(person));
+    }
+
+    /**
+     * Indexes the searchable fields of each of {@code persons}.
+     */
+    void addAll(Collection<Person> persons) {
+        persons.forEach(this::addWords);
+        sortedIndexes.values().forEach(index -> index.addAll(persons));
+    }
+
+    private void addWords(Person person) {
+        forEachWord(person, (field, word) -> {
+            Map<String, Set<Person>> fieldPostings = postings.get(field);
+            Set<Person> persons = fieldPostings.get(word);
+            if (persons == null) {
+                persons = new HashSet<>();
+                fieldPostings.put(word, persons);
+                addTrigrams(field, word);
+            }
+            persons.add(person);
+        });
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    void remove(Person person) {
+        forEachWord(person, (field, word) -> {
+            Map<String, Set<Person>> fieldPostings = postings.get(field);
+            Set<Person> persons = fieldPostings.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                fieldPostings.remove(word);
+                removeTrigrams(field, word);
+            }
+        });
+        sortedIndexes.values().forEach(index -> index.remove(person));
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    void clear() {
+        postings.values().forEach(Map::clear);
+        trigramPostings.values().forEach(Map::clear);
+        sortedIndexes.values().forEach(SortedPersonIndex::clear);
+    }
+
+    private void addTrigrams(Field field, String word) {
+        if (!field.isFuzzySearchable()) {
+            return;
+        }
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        for (String trigram : getTrigrams(word)) {
+            fieldTrigramPostings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+        }
+    }
+
+    private void removeTrigrams(Field field, String word) {
+        if (!field.isFuzzySearchable()) {
+            return;
+        }
+        Map<String, Set<String>> fieldTrigramPostings = trigramPostings.get(field);
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = fieldTrigramPostings.get(trigram);
+            if (words != null && words.remove(word) && words.isEmpty()) {
+                fieldTrigramPostings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded with {@link #TRIGRAM_PADDING} on both sides.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String padded = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the case-folded words of {@code field} of {@code person}.
+     */
+    static String[] getWords(Person person, Field field) {
+        switch (field) {
+        case NAME:
+            return person.getNameWords();
+        case SCHOOL:
+            return person.getSchoolWords();
+        case ROLE:
+            return person.getRoleWords();
+        case TAG:
+            return person.getTagWords();
+        default:
+            throw new AssertionError("Unknown field: " + field);
+        }
+    }
+
+    private static void forEachWord(Person person, BiConsumer<Field, String> consumer) {
+        for (Field field : Field.values()) {
+            for (String word : getWords(person, field)) {
+                consumer.accept(field, word);
+            }
+        }
+    }
+}
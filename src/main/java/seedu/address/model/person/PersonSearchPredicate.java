@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on persons that can also be answered directly from a {@code PersonSearchIndex}.
+ */
+public interface PersonSearchPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate.
+     * The returned set is a new set and may be modified by the caller.
+     */
+    Set<Person> getMatches(PersonSearchIndex index);
+
+    /**
+     * Returns the order in which to list {@code matches}, the persons that satisfy this predicate, best match first,
+     * or null if they are all equally good matches and should be listed in the order of the address book.
+     */
+    default Comparator<Person> getRanking(Set<Person> matches) {
+        return null;
+    }
+}
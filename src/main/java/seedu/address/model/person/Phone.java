@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isDigits;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -13,7 +14,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should 4 to 17 digits long (inclusive)"
             + "\nPhone number must not be blank (only whitespaces).";
-    public static final String VALIDATION_REGEX = "\\d{4,17}";
+    public static final int PHONE_MINIMUM_LENGTH = 4;
+    public static final int PHONE_MAXIMUM_LENGTH = 17;
+    public static final String VALIDATION_REGEX = "\\d{" + PHONE_MINIMUM_LENGTH + "," + PHONE_MAXIMUM_LENGTH + "}";
     public final String value;
 
     /**
@@ -31,7 +34,7 @@ public class Phone {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isDigits(test, PHONE_MINIMUM_LENGTH, PHONE_MAXIMUM_LENGTH);
     }
 
     @Override
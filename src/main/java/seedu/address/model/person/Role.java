@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericOr;
+
 /**
  * Represents a Person's role in the RelayCoach app.
  * Guarantees: immutable}
@@ -24,7 +26,7 @@ public class Role {
     }
 
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericOr(test, " -/_+()'", 1, ROLE_MAXIMUM_LENGTH) && !test.isBlank();
     }
 
     @Override
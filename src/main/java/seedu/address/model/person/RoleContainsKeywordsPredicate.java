@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,19 +9,29 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Role} matches any of the keywords given.
  */
-public class RoleContainsKeywordsPredicate implements Predicate<Person> {
+public class RoleContainsKeywordsPredicate implements PersonSearchPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that is satisfied when any of the words of the role is one of {@code keywords}, ignoring
+     * case.
+     */
     public RoleContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null : "Person should not be null";
         assert person.getRole() != null : "Person's role should not be null";
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getRole().value, keyword));
+        return StringUtil.containsAnyWord(person.getRoleWords(), foldedKeywords);
+    }
+
+    @Override
+    public Set<Person> getMatches(PersonSearchIndex index) {
+        return index.getPersonsMatchingAny(PersonSearchIndex.Field.ROLE, keywords);
     }
 
     @Override
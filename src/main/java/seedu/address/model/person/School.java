@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's school in the RelayCoach app.
  * Guarantees: immutable}
@@ -17,6 +19,7 @@ public class School {
      */
     public static final String VALIDATION_REGEX =
             "^(?=.*\\S)[\\p{L}\\p{M}0-9 .,'\\-&()]{1," + SCHOOL_MAXIMUM_LENGTH + "}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -25,7 +28,7 @@ public class School {
     }
 
     public static boolean isValidSchool(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,19 +9,29 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code School} matches any of the keywords given.
  */
-public class SchoolContainsKeywordsPredicate implements Predicate<Person> {
+public class SchoolContainsKeywordsPredicate implements PersonSearchPredicate {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that is satisfied when any of the words of the school is one of {@code keywords}, ignoring
+     * case.
+     */
     public SchoolContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null : "Person should not be null";
         assert person.getRole() != null : "Person's role should not be null";
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getSchool().value, keyword));
+        return StringUtil.containsAnyWord(person.getSchoolWords(), foldedKeywords);
+    }
+
+    @Override
+    public Set<Person> getMatches(PersonSearchIndex index) {
+        return index.getPersonsMatchingAny(PersonSearchIndex.Field.SCHOOL, keywords);
     }
 
     @Override
@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Persons sorted by an int key, such as their height in tenths of a cm, in a pair of parallel arrays.
+ * The persons with keys in a range are found by binary search, and a person is added or removed by shifting the
+ * persons after it along by one.
+ */
+class SortedPersonIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ToIntFunction<Person> keyFunction;
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Creates an empty index that sorts persons by {@code keyFunction}.
+     */
+    SortedPersonIndex(ToIntFunction<Person> keyFunction) {
+        requireNonNull(keyFunction);
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the persons with keys from {@code min} to {@code max}, inclusive.
+     * The returned set is a new set and may be modified by the caller.
+     */
+    Set<Person> getPersonsBetween(int min, int max) {
+        Set<Person> matches = new HashSet<>();
+        if (min > max) {
+            return matches;
+        }
+        for (int i = indexAfter(min - 1L), end = indexAfter(max); i < end; i++) {
+            matches.add(persons[i]);
+        }
+        return matches;
+    }
+
+    void add(Person person) {
+        int key = keyFunction.applyAsInt(person);
+        int index = indexAfter(key);
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(persons, index, persons, index + 1, size - index);
+        keys[index] = key;
+        persons[index] = person;
+        size++;
+    }
+
+    /**
+     * Adds all of {@code toAdd}. When there are many of them, the index is sorted again once instead of shifting the
+     * persons after each of them.
+     */
+    void addAll(Collection<Person> toAdd) {
+        if (toAdd.size() < 8) {
+            toAdd.forEach(this::add);
+            return;
+        }
+
+        ensureCapacity(size + toAdd.size());
+        for (Person person : toAdd) {
+            keys[size] = keyFunction.applyAsInt(person);
+            persons[size] = person;
+            size++;
+        }
+
+        // sorts the keys with the position of their person in the low bits, which also keeps the order stable
+        long[] keysAndPositions = new long[size];
+        for (int i = 0; i < size; i++) {
+            keysAndPositions[i] = (long) keys[i] << Integer.SIZE | i;
+        }
+        Arrays.sort(keysAndPositions);
+        Person[] sortedPersons = new Person[persons.length];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (int) (keysAndPositions[i] >> Integer.SIZE);
+            sortedPersons[i] = persons[(int) keysAndPositions[i]];
+        }
+        persons = sortedPersons;
+    }
+
+    /**
+     * Removes the person equal to {@code person}, if there is one.
+     */
+    void remove(Person person) {
+        int key = keyFunction.applyAsInt(person);
+        for (int i = indexAfter(key - 1L), end = indexAfter(key); i < end; i++) {
+            if (persons[i].equals(person)) {
+                System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                System.arraycopy(persons, i + 1, persons, i, size - i - 1);
+                persons[--size] = null;
+                return;
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(persons, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the index of the first key greater than {@code key}, or the number of persons if there is none.
+     * The key is a long so that one less than the smallest int can be given.
+     */
+    private int indexAfter(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= keys.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, keys.length * 2);
+        keys = Arrays.copyOf(keys, newCapacity);
+        persons = Arrays.copyOf(persons, newCapacity);
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +23,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Persons are additionally indexed by identity (name and date of birth) so that duplicate checks run in constant
+ * time. Since two equal persons always share the same identity, the same index also answers full-equality lookups.
+ * Persons that have an id are also indexed by it.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +34,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonIdentity, Person> identityIndex = new HashMap<>();
+    private final Map<PersonId, Person> idIndex = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean hasIdenticalPerson(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return toCheck.equals(identityIndex.get(new PersonIdentity(toCheck)));
     }
 
     /**
@@ -41,38 +51,107 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(new PersonIdentity(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the given name and date of birth, or null if there is none.
+     */
+    public Person get(Name name, Dob dob) {
+        requireAllNonNull(name, dob);
+        return identityIndex.get(new PersonIdentity(name, dob));
+    }
+
+    /**
+     * Returns the person in the list with the given id, or null if there is none.
+     */
+    public Person get(PersonId id) {
+        requireNonNull(id);
+        return idIndex.get(id);
     }
 
     /**
      * Adds a person to the list.
-     * The person must not already exist in the list.
+     * The person must not already exist in the list, and its id, if any, must not be used by another person.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a person to the list at {@code index}, shifting the persons from there on back by one.
+     * The person must not already exist in the list, and its id, if any, must not be used by another person.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        if (toAdd.getId() != null && idIndex.containsKey(toAdd.getId())) {
+            throw new IllegalArgumentException("Person id " + toAdd.getId() + " is already in use.");
+        }
+        identityIndex.put(new PersonIdentity(toAdd), toAdd);
+        indexId(toAdd);
+        searchIndex.add(toAdd);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list in a single change, so that listeners are notified once.
+     * None of the persons may already exist in the list or be duplicates of each other, and their ids, if any, must
+     * not be used by another person.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<PersonIdentity, Person> addedIndex = indexByIdentity(toAdd);
+        Map<PersonId, Person> addedIdIndex = indexById(toAdd);
+        for (PersonIdentity identity : addedIndex.keySet()) {
+            if (identityIndex.containsKey(identity)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        for (PersonId id : addedIdIndex.keySet()) {
+            if (idIndex.containsKey(id)) {
+                throw new IllegalArgumentException("Person id " + id + " is already in use.");
+            }
+        }
+
+        identityIndex.putAll(addedIndex);
+        idIndex.putAll(addedIdIndex);
+        searchIndex.addAll(toAdd);
+        internalList.addAll(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list, and
+     * its id, if any, must not be used by another person either.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person storedTarget = identityIndex.get(new PersonIdentity(target));
+        if (!target.equals(storedTarget)) {
             throw new PersonNotFoundException();
         }
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        Person idHolder = editedPerson.getId() == null ? null : idIndex.get(editedPerson.getId());
+        if (idHolder != null && idHolder != storedTarget) {
+            throw new IllegalArgumentException("Person id " + editedPerson.getId() + " is already in use.");
+        }
 
+        int index = internalList.indexOf(target);
+        assert index != -1 : "Identity index is out of sync with the person list";
+        identityIndex.remove(new PersonIdentity(target));
+        identityIndex.put(new PersonIdentity(editedPerson), editedPerson);
+        unindexId(storedTarget);
+        indexId(editedPerson);
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -82,29 +161,46 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person storedPerson = identityIndex.get(new PersonIdentity(toRemove));
+        if (!toRemove.equals(storedPerson)) {
             throw new PersonNotFoundException();
         }
+        identityIndex.remove(new PersonIdentity(toRemove));
+        unindexId(storedPerson);
+        searchIndex.remove(toRemove);
+        internalList.remove(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
-     * {@code persons} must not contain duplicate persons.
+     * {@code persons} must not contain duplicate persons, or two persons with the same id.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<PersonIdentity, Person> replacementIndex = indexByIdentity(persons);
+        Map<PersonId, Person> replacementIdIndex = indexById(persons);
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        idIndex.clear();
+        idIndex.putAll(replacementIdIndex);
+        searchIndex.clear();
+        searchIndex.addAll(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the keyword search index over the persons in this list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -114,7 +210,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -142,17 +238,84 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void indexId(Person person) {
+        if (person.getId() != null) {
+            idIndex.put(person.getId(), person);
+        }
+    }
+
+    private void unindexId(Person person) {
+        if (person.getId() != null) {
+            idIndex.remove(person.getId(), person);
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} that have an id, indexed by id.
+     *
+     * @throws IllegalArgumentException if two persons in {@code persons} have the same id.
+     */
+    private static Map<PersonId, Person> indexById(List<Person> persons) {
+        Map<PersonId, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (person.getId() != null && index.putIfAbsent(person.getId(), person) != null) {
+                throw new IllegalArgumentException("Person id " + person.getId() + " is already in use.");
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns {@code persons} indexed by identity.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
+     */
+    private static Map<PersonIdentity, Person> indexByIdentity(List<Person> persons) {
+        Map<PersonIdentity, Person> index = new HashMap<>(persons.size() * 2);
+        for (Person person : persons) {
+            if (index.putIfAbsent(new PersonIdentity(person), person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        return index;
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Hash key of a {@code Person} by the fields that identify it. Two persons have equal keys exactly when
+     * {@link Person#isSamePerson(Person)} holds for them.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static final class PersonIdentity {
+        private final Name name;
+        private final Dob dob;
+
+        PersonIdentity(Name name, Dob dob) {
+            this.name = name;
+            this.dob = dob;
+        }
+
+        PersonIdentity(Person person) {
+            this(person.getName(), person.getDob());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof PersonIdentity)) {
+                return false;
             }
+
+            PersonIdentity otherIdentity = (PersonIdentity) other;
+            return name.equals(otherIdentity.name)
+                    && dob.equals(otherIdentity.dob);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, dob);
         }
-        return true;
     }
 }
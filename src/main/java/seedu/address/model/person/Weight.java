@@ -2,18 +2,24 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.INVALID_TENTHS;
+import static seedu.address.commons.util.ValidationUtil.formatTenths;
+import static seedu.address.commons.util.ValidationUtil.parseTenths;
 
 /**
  * Represents a Person's weight in the RelayCoach app.
  * Guarantees: immutable}
  */
 public class Weight {
+    public static final int MINIMUM_WEIGHT = 25;
+    public static final int MAXIMUM_WEIGHT = 200;
     public static final String MESSAGE_CONSTRAINTS =
             "Weight must be a positive number between 25 and 200 kg (inclusive), and may have up to one decimal place."
             + "\nWeight must not be blank (only whitespaces).";
     public static final String VALIDATION_REGEX =
-            "^(?:2[5-9](?:\\.\\d)?|[3-9]\\d(?:\\.\\d)?|1[01]\\d(?:\\.\\d)?|200(?:\\.0)?)$";
+            "^(?:2[5-9](?:\\.\\d)?|[3-9]\\d(?:\\.\\d)?|1\\d{2}(?:\\.\\d)?|200(?:\\.0)?)$";
     public final String value;
+    private final int tenths;
 
     /**
      * Constructs a {@code Weight}.
@@ -22,15 +28,24 @@ public class Weight {
      */
     public Weight(String weight) {
         requireNonNull(weight);
-        checkArgument(isValidWeight(weight), MESSAGE_CONSTRAINTS);
-        this.value = String.format("%.1f", Float.parseFloat(weight)); //ensure only 1 decimal place
+        int tenths = parseTenths(weight, MINIMUM_WEIGHT, MAXIMUM_WEIGHT);
+        checkArgument(tenths != INVALID_TENTHS, MESSAGE_CONSTRAINTS);
+        this.tenths = tenths;
+        this.value = formatTenths(tenths); //ensure only 1 decimal place
     }
 
     /**
      * Returns true if a given string is a valid weight.
      */
     public static boolean isValidWeight(String test) {
-        return test != null && test.matches(VALIDATION_REGEX);
+        return test != null && parseTenths(test, MINIMUM_WEIGHT, MAXIMUM_WEIGHT) != INVALID_TENTHS;
+    }
+
+    /**
+     * Returns the weight in tenths of a kg, e.g. 655 for 65.5 kg.
+     */
+    public int getTenths() {
+        return tenths;
     }
 
     @Override
@@ -50,12 +65,12 @@ public class Weight {
         }
 
         Weight otherWeight = (Weight) other;
-        return value.equals(otherWeight.value);
+        return tenths == otherWeight.tenths;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(tenths);
     }
 
 }
@@ -2,6 +2,7 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumericOr;
 
 /**
  * Represents a Tag in the address book.
@@ -33,7 +34,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return isAlphanumericOr(test, "-/+_()'", 1, TAG_MAXIMUM_LENGTH);
     }
 
     @Override
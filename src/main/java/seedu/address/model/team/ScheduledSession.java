@@ -0,0 +1,68 @@
+package seedu.address.model.team;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import seedu.address.model.team.session.Session;
+
+/**
+ * A {@code Session} together with the name of the team it belongs to.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class ScheduledSession {
+
+    /**
+     * Orders scheduled sessions by {@link Session#SESSION_ORDER}, then by team name ignoring case.
+     */
+    public static final Comparator<ScheduledSession> SCHEDULE_ORDER = Comparator
+            .comparing(ScheduledSession::getSession, Session.SESSION_ORDER)
+            .thenComparing(scheduled -> scheduled.getTeamName().fullTeamName, String.CASE_INSENSITIVE_ORDER);
+
+    private final TeamName teamName;
+    private final Session session;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ScheduledSession(TeamName teamName, Session session) {
+        requireAllNonNull(teamName, session);
+        this.teamName = teamName;
+        this.session = session;
+    }
+
+    public TeamName getTeamName() {
+        return teamName;
+    }
+
+    public Session getSession() {
+        return session;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduledSession)) {
+            return false;
+        }
+
+        ScheduledSession otherScheduledSession = (ScheduledSession) other;
+        return teamName.equals(otherScheduledSession.teamName)
+                && session.equals(otherScheduledSession.session);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(teamName.fullTeamName.toLowerCase(), session);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s", teamName, session);
+    }
+}
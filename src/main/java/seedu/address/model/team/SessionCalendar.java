@@ -0,0 +1,134 @@
+package seedu.address.model.team;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+import seedu.address.model.team.session.SessionTimeline;
+
+/**
+ * An index of the sessions of all teams, by time and by location.
+ *
+ * The distinct sessions of all teams are kept in a {@code SessionTimeline}, whose interval tree finds the sessions
+ * overlapping a time range however long the other sessions are, and the sessions at each location are kept in a
+ * timeline of their own, so the sessions at a location are found without looking at the sessions elsewhere. The teams
+ * of each session are then looked up among the sessions indexed by start time. Both queries take O((k + 1) log n)
+ * time for k results.
+ *
+ * The calendar is kept in sync by {@link UniqueTeamList}; other classes may only query it.
+ */
+public class SessionCalendar {
+
+    private final NavigableMap<LocalDateTime, List<ScheduledSession>> byStart = new TreeMap<>();
+    private SessionTimeline allSessions = SessionTimeline.empty();
+    private final Map<Location, SessionTimeline> byLocation = new HashMap<>();
+
+    /**
+     * Returns the sessions of all teams that overlap the time range from {@code from} to {@code to}, in
+     * {@link ScheduledSession#SCHEDULE_ORDER}. Sessions that only touch the range do not overlap it.
+     */
+    public List<ScheduledSession> getSessionsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return getScheduledSessions(allSessions.findAllOverlapping(from, to));
+    }
+
+    /**
+     * Returns the sessions of all teams at {@code location} that overlap the time range from {@code from} to
+     * {@code to}, in {@link ScheduledSession#SCHEDULE_ORDER}. Sessions that only touch the range do not overlap it.
+     */
+    public List<ScheduledSession> getSessionsAt(Location location, LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(location, from, to);
+
+        SessionTimeline timeline = byLocation.get(location);
+        if (timeline == null) {
+            return new ArrayList<>();
+        }
+        return getScheduledSessions(timeline.findAllOverlapping(from, to));
+    }
+
+    /**
+     * Returns the sessions of every team that has one of {@code sessions}, which must be in
+     * {@link Session#SESSION_ORDER}, in {@link ScheduledSession#SCHEDULE_ORDER}.
+     */
+    private List<ScheduledSession> getScheduledSessions(List<Session> sessions) {
+        List<ScheduledSession> scheduledSessions = new ArrayList<>();
+        for (Session session : sessions) {
+            // teams with the same session are next to each other among the sessions with its start time
+            for (ScheduledSession scheduled : byStart.get(session.getStartDate())) {
+                if (scheduled.getSession().equals(session)) {
+                    scheduledSessions.add(scheduled);
+                }
+            }
+        }
+        return scheduledSessions;
+    }
+
+    /**
+     * Adds {@code session} of the team named {@code teamName} to the calendar.
+     */
+    void add(TeamName teamName, Session session) {
+        ScheduledSession scheduled = new ScheduledSession(teamName, session);
+        List<ScheduledSession> startingTogether =
+                byStart.computeIfAbsent(session.getStartDate(), unused -> new ArrayList<>());
+        int index = Collections.binarySearch(startingTogether, scheduled, ScheduledSession.SCHEDULE_ORDER);
+        if (index >= 0) {
+            return;
+        }
+
+        startingTogether.add(-index - 1, scheduled);
+        allSessions = allSessions.with(session);
+        byLocation.put(session.getLocation(),
+                byLocation.getOrDefault(session.getLocation(), SessionTimeline.empty()).with(session));
+    }
+
+    /**
+     * Removes {@code session} of the team named {@code teamName} from the calendar.
+     */
+    void remove(TeamName teamName, Session session) {
+        List<ScheduledSession> startingTogether = byStart.get(session.getStartDate());
+        if (startingTogether == null) {
+            return;
+        }
+        int index = Collections.binarySearch(startingTogether, new ScheduledSession(teamName, session),
+                ScheduledSession.SCHEDULE_ORDER);
+        if (index < 0) {
+            return;
+        }
+
+        startingTogether.remove(index);
+        if (startingTogether.isEmpty()) {
+            byStart.remove(session.getStartDate());
+        }
+
+        // the session is still scheduled if another team has the same one
+        boolean stillScheduled = startingTogether.stream()
+                .anyMatch(scheduled -> scheduled.getSession().equals(session));
+        if (!stillScheduled) {
+            allSessions = allSessions.without(session);
+            SessionTimeline remaining = byLocation.get(session.getLocation()).without(session);
+            if (remaining.isEmpty()) {
+                byLocation.remove(session.getLocation());
+            } else {
+                byLocation.put(session.getLocation(), remaining);
+            }
+        }
+    }
+
+    /**
+     * Removes all sessions from the calendar.
+     */
+    void clear() {
+        byStart.clear();
+        allSessions = SessionTimeline.empty();
+        byLocation.clear();
+    }
+}
@@ -2,86 +2,124 @@ package seedu.address.model.team;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.team.session.Session;
+import seedu.address.model.team.session.SessionTimeline;
 
 /**
  * Represents a Team in the RelayCoach app.
  * Guarantees: member size is always 4, details are present and not null, field values are validated, immutable.
+ *
+ * Members are referred to by their {@link PersonId}, so a team does not change when one of its members is edited,
+ * and comparing or hashing teams does not compare the members' details.
  */
 public class Team {
 
     public static final int TEAM_SIZE = 4;
 
     private final TeamName name;
-    private final Set<Person> members = new HashSet<>();
-    private final Set<Session> sessions = new HashSet<>();
+    private final List<PersonId> memberIds; // sorted by id value
+    private final SessionTimeline sessions;
+    private final String[] nameWords; // case-folded, see StringUtil#toFoldedWords
 
     /**
      * Constructs a {@code Team}.
      *
      * @param name Name of the team
-     * @param members Set of team members (must have 4 distinct members)
+     * @param members Set of team members (must have 4 distinct members with ids)
      */
     public Team(TeamName name, Set<Person> members) {
-        requireNonNull(name);
-        requireNonNull(members);
-
-        if (members.size() != TEAM_SIZE) {
-            throw new IllegalArgumentException("A team must have exactly 4 members.");
-        }
-
-        assert members.size() == TEAM_SIZE : "Team must have exactly 4 members.";
-
-        this.name = name;
-        this.members.addAll(members);
+        this(name, members, Set.of());
     }
 
     /**
      * Constructs a {@code Team}.
      *
      * @param name Name of the team
-     * @param members Set of team members (must have 4 distinct members)
+     * @param members Set of team members (must have 4 distinct members with ids)
      * @param sessions Set of sessions associated with the team
      */
     public Team(TeamName name, Set<Person> members, Set<Session> sessions) {
+        this(name, toMemberIds(members), SessionTimeline.of(sessions));
+    }
+
+    private Team(TeamName name, List<PersonId> memberIds, SessionTimeline sessions) {
         requireNonNull(name);
-        requireNonNull(members);
         requireNonNull(sessions);
 
-        if (members.size() != TEAM_SIZE) {
+        if (memberIds.size() != TEAM_SIZE) {
             throw new IllegalArgumentException("A team must have exactly 4 members.");
         }
 
         this.name = name;
-        this.members.addAll(members);
-        this.sessions.addAll(sessions);
+        this.memberIds = memberIds;
+        this.sessions = sessions;
+        this.nameWords = StringUtil.toFoldedWords(name.fullTeamName);
+    }
+
+    /**
+     * Returns the distinct ids of {@code members}, sorted by value.
+     */
+    private static List<PersonId> toMemberIds(Set<Person> members) {
+        requireNonNull(members);
+        if (members.stream().anyMatch(member -> member.getId() == null)) {
+            throw new IllegalArgumentException("Team members must be in the address book.");
+        }
+        return members.stream()
+                .map(Person::getId)
+                .distinct()
+                .sorted(Comparator.comparingInt(id -> id.value))
+                .collect(Collectors.toUnmodifiableList());
     }
 
     public TeamName getName() {
         return name;
     }
 
+    /**
+     * Returns the case-folded words of the name. The array must not be modified.
+     */
+    String[] getNameWords() {
+        return nameWords;
+    }
+
+    /**
+     * Returns true if {@code person} is a member of this team, that is, if it has the id of one of the members.
+     */
     public boolean hasMember(Person person) {
-        return members.contains(person);
+        requireNonNull(person);
+        return person.getId() != null && memberIds.contains(person.getId());
+    }
+
+    /**
+     * Returns the ids of the members of this team as an unmodifiable list, sorted by value.
+     */
+    public List<PersonId> getMemberIds() {
+        return memberIds;
     }
 
     /**
-     * Returns a new {@code Team} with the given member replaced by the edited person.
+     * Returns a new {@code Team} with the same name and members as this team, and the given sessions.
+     * A {@code SessionTimeline} is shared with the new team rather than copied.
      */
-    public Team updateTeamMember(Person oldMember, Person newMember) {
-        Set<Person> updatedMembers = new HashSet<>(members);
-        updatedMembers.remove(oldMember);
-        updatedMembers.add(newMember);
-        return new Team(this.name, updatedMembers);
+    public Team withSessions(Set<Session> sessions) {
+        requireNonNull(sessions);
+        return new Team(name, memberIds, SessionTimeline.of(sessions));
     }
 
-    public Set<Session> getSessions() {
-        return Set.copyOf(sessions); // Return an unmodifiable view of sessions
+    /**
+     * Returns the sessions of this team as an immutable set, in {@link Session#SESSION_ORDER}.
+     */
+    public SessionTimeline getSessions() {
+        return sessions;
     }
 
     @Override
@@ -94,7 +132,7 @@ public class Team {
         }
         Team otherTeam = (Team) other;
         return name.equals(otherTeam.name)
-                && members.equals(otherTeam.members)
+                && memberIds.equals(otherTeam.memberIds)
                 && sessions.equals(otherTeam.sessions);
     }
 
@@ -120,15 +158,12 @@ public class Team {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, members, sessions);
+        // sessions are left out to keep hashing cheap; equal teams still have equal hash codes
+        return Objects.hash(name, memberIds);
     }
 
     @Override
     public String toString() {
-        return String.format("Team %s: %s", name, members, sessions);
-    }
-
-    public Set<Person> getMembers() {
-        return Set.copyOf(members); // Return an unmodifiable view of members
+        return String.format("Team %s: %s", name, memberIds);
     }
 }
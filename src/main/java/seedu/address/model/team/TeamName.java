@@ -3,6 +3,8 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a team's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +21,7 @@ public class TeamName {
      */
     public static final String VALIDATION_REGEX =
             "^(?=.*\\S)[-\\p{L}\\p{M}0-9 .'()]{1," + TEAM_NAME_MAX_LENGTH + "}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullTeamName;
 
@@ -37,7 +40,7 @@ public class TeamName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
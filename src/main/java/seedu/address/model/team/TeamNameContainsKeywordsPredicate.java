@@ -11,16 +11,21 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class TeamNameContainsKeywordsPredicate implements Predicate<Team> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate that is satisfied when any of the words of the team name is one of {@code keywords}, ignoring
+     * case.
+     */
     public TeamNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
     }
 
 
     @Override
     public boolean test(Team team) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(team.getName().fullTeamName, keyword));
+        return StringUtil.containsAnyWord(team.getNameWords(), foldedKeywords);
     }
 
     @Override
@@ -3,13 +3,18 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotFoundException;
+import seedu.address.model.team.session.Session;
+import seedu.address.model.team.session.SessionTimeline;
 
 /**
  * A list of teams that enforces uniqueness between its elements and does not allow nulls.
@@ -19,12 +24,17 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
  * as to ensure that the team with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ *
+ * Each team's member ids are also indexed so that the team of a person can be looked up in constant time, and the
+ * sessions of all teams are kept in a {@code SessionCalendar}.
  */
 public class UniqueTeamList implements Iterable<Team> {
 
     private final ObservableList<Team> internalList = FXCollections.observableArrayList();
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<PersonId, Team> memberIndex = new HashMap<>();
+    private final SessionCalendar sessionCalendar = new SessionCalendar();
 
     /**
      * Returns true if the list contains an equivalent team as the given argument.
@@ -34,16 +44,34 @@ public class UniqueTeamList implements Iterable<Team> {
         return internalList.stream().anyMatch(toCheck::isSameTeam);
     }
 
+    /**
+     * Returns the team that the person with the given id is a member of, or null if the person is not in any team.
+     */
+    public Team getTeamOf(PersonId personId) {
+        requireNonNull(personId);
+        return memberIndex.get(personId);
+    }
+
     /**
      * Adds a team to the list.
      * The team must not already exist in the list.
      */
     public void add(Team toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a team to the list at {@code index}, shifting the teams from there on back by one.
+     * The team must not already exist in the list.
+     */
+    public void add(int index, Team toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateTeamException();
         }
-        internalList.add(toAdd);
+        indexMembers(toAdd);
+        scheduleSessions(toAdd);
+        internalList.add(index, toAdd);
     }
 
     /**
@@ -63,6 +91,9 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
 
+        unindexMembers(target);
+        indexMembers(editedTeam);
+        rescheduleSessions(target, editedTeam);
         internalList.set(index, editedTeam);
     }
 
@@ -75,10 +106,16 @@ public class UniqueTeamList implements Iterable<Team> {
         if (!internalList.remove(toRemove)) {
             throw new TeamNotFoundException();
         }
+        unindexMembers(toRemove);
+        unscheduleSessions(toRemove);
     }
 
     public void setTeams(UniqueTeamList replacement) {
         requireNonNull(replacement);
+        memberIndex.clear();
+        memberIndex.putAll(replacement.memberIndex);
+        sessionCalendar.clear();
+        replacement.internalList.forEach(this::scheduleSessions);
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,9 +129,20 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
 
+        memberIndex.clear();
+        teams.forEach(this::indexMembers);
+        sessionCalendar.clear();
+        teams.forEach(this::scheduleSessions);
         internalList.setAll(teams);
     }
 
+    /**
+     * Returns the calendar of the sessions of all teams in the list.
+     */
+    public SessionCalendar getSessionCalendar() {
+        return sessionCalendar;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -104,7 +152,7 @@ public class UniqueTeamList implements Iterable<Team> {
 
     @Override
     public Iterator<Team> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -131,6 +179,59 @@ public class UniqueTeamList implements Iterable<Team> {
         return internalList.toString();
     }
 
+    private void indexMembers(Team team) {
+        for (PersonId memberId : team.getMemberIds()) {
+            memberIndex.put(memberId, team);
+        }
+    }
+
+    private void unindexMembers(Team team) {
+        for (PersonId memberId : team.getMemberIds()) {
+            memberIndex.remove(memberId, team);
+        }
+    }
+
+    private void scheduleSessions(Team team) {
+        for (Session session : team.getSessions()) {
+            sessionCalendar.add(team.getName(), session);
+        }
+    }
+
+    private void unscheduleSessions(Team team) {
+        for (Session session : team.getSessions()) {
+            sessionCalendar.remove(team.getName(), session);
+        }
+    }
+
+    /**
+     * Updates the calendar for {@code target} being replaced by {@code editedTeam}.
+     * When the team keeps its name, only the sessions that were added or removed are updated, so adding a session to
+     * a team does not reschedule all of its sessions.
+     */
+    private void rescheduleSessions(Team target, Team editedTeam) {
+        if (!target.getName().fullTeamName.equals(editedTeam.getName().fullTeamName)) {
+            unscheduleSessions(target);
+            scheduleSessions(editedTeam);
+            return;
+        }
+
+        SessionTimeline oldSessions = target.getSessions();
+        SessionTimeline newSessions = editedTeam.getSessions();
+        if (oldSessions == newSessions) {
+            return;
+        }
+        for (Session session : oldSessions) {
+            if (!newSessions.contains(session)) {
+                sessionCalendar.remove(target.getName(), session);
+            }
+        }
+        for (Session session : newSessions) {
+            if (!oldSessions.contains(session)) {
+                sessionCalendar.add(editedTeam.getName(), session);
+            }
+        }
+    }
+
     /**
      * Returns true if {@code teams} contains only unique teams.
      */
@@ -3,6 +3,8 @@ package seedu.address.model.team.session;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Session's Location in the RelayCoach app.
  * Guarantees: immutable}
@@ -22,6 +24,7 @@ public class Location {
      */
     public static final String VALIDATION_REGEX =
             "^(?=\\S)(?=.*\\S)[\\p{L}\\p{M}0-9 .,'\\-&/#();]{1," + LOCATION_MAXIMUM_LENGTH + "}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -37,7 +40,7 @@ public class Location {
     }
 
     public static boolean isValidLocation(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -62,6 +65,6 @@ public class Location {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value.toLowerCase().hashCode(); // consistent with equals, which ignores case
     }
 }
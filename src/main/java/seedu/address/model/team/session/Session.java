@@ -12,10 +12,14 @@ import java.util.Objects;
  */
 public class Session {
 
+    /**
+     * Orders sessions by start, then end, then location.
+     * Locations are compared ignoring case, so that the order is consistent with {@link #equals(Object)}.
+     */
     public static final java.util.Comparator<Session> SESSION_ORDER = Comparator
             .comparing(Session::getStartDate)
             .thenComparing(Session::getEndDate)
-            .thenComparing(s -> s.getLocation().toString());
+            .thenComparing(s -> s.getLocation().toString(), String.CASE_INSENSITIVE_ORDER);
 
     public static final String MESSAGE_CONSTRAINTS = "Session must have a valid location and start and end date";
 
@@ -46,6 +50,14 @@ public class Session {
         return endDate;
     }
 
+    /**
+     * Returns true if this session overlaps the time range from {@code start} to {@code end}.
+     * A session that ends at {@code start} or starts at {@code end} does not overlap it.
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return startDate.isBefore(end) && start.isBefore(endDate);
+    }
+
     /**
      * Returns true if both sessions have the same identity and data fields.
      * This defines a stronger notion of equality between two sessions.
@@ -0,0 +1,384 @@
+package seedu.address.model.team.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * An immutable set of sessions, kept in {@link Session#SESSION_ORDER}.
+ *
+ * The sessions are stored in a balanced binary search tree ordered by start and end time, in which each node also
+ * records the size of its subtree and the latest end time in it. This allows finding a session that overlaps a given
+ * time range, finding the session at a position in the order, and checking whether a session is present, all in
+ * O(log n) time. Iteration is in order without sorting.
+ *
+ * Adding or removing a session returns a new {@code SessionTimeline} that shares all but O(log n) of its nodes with
+ * this one, so updating a team with a long history of sessions stays cheap.
+ */
+public final class SessionTimeline extends AbstractSet<Session> {
+
+    private static final SessionTimeline EMPTY = new SessionTimeline(null);
+
+    private final Node root;
+
+    private SessionTimeline(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns a {@code SessionTimeline} with no sessions.
+     */
+    public static SessionTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a {@code SessionTimeline} with the given sessions. Duplicate sessions are kept once.
+     */
+    public static SessionTimeline of(Collection<Session> sessions) {
+        requireNonNull(sessions);
+        if (sessions instanceof SessionTimeline) {
+            return (SessionTimeline) sessions;
+        }
+
+        List<Session> sorted = new ArrayList<>(sessions);
+        sorted.sort(Session.SESSION_ORDER);
+        List<Session> distinct = new ArrayList<>(sorted.size());
+        for (Session session : sorted) {
+            requireNonNull(session);
+            if (distinct.isEmpty() || Session.SESSION_ORDER.compare(distinct.get(distinct.size() - 1), session) != 0) {
+                distinct.add(session);
+            }
+        }
+        return distinct.isEmpty() ? EMPTY : new SessionTimeline(build(distinct, 0, distinct.size()));
+    }
+
+    /**
+     * Returns a {@code SessionTimeline} with the sessions of this one and {@code session}.
+     * Returns this {@code SessionTimeline} if it already contains {@code session}.
+     */
+    public SessionTimeline with(Session session) {
+        requireNonNull(session);
+        Node newRoot = insert(root, session);
+        return newRoot == root ? this : new SessionTimeline(newRoot);
+    }
+
+    /**
+     * Returns a {@code SessionTimeline} with the sessions of this one except {@code session}.
+     * Returns this {@code SessionTimeline} if it does not contain {@code session}.
+     */
+    public SessionTimeline without(Session session) {
+        requireNonNull(session);
+        Node newRoot = remove(root, session);
+        return newRoot == root ? this : new SessionTimeline(newRoot);
+    }
+
+    /**
+     * Returns the session at {@code index} in {@link Session#SESSION_ORDER}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public Session get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.session;
+            }
+        }
+    }
+
+    /**
+     * Returns a session that overlaps {@code session} in time, if any.
+     * Sessions that only touch, with one ending when the other starts, do not overlap.
+     */
+    public Optional<Session> findOverlapping(Session session) {
+        requireNonNull(session);
+        return findOverlapping(session.getStartDate(), session.getEndDate());
+    }
+
+    /**
+     * Returns a session that overlaps the time range from {@code start} to {@code end}, if any.
+     * Sessions that only touch the range, by ending at {@code start} or starting at {@code end}, do not overlap it.
+     */
+    public Optional<Session> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+
+        Node node = root;
+        while (node != null) {
+            if (node.session.overlaps(start, end)) {
+                return Optional.of(node.session);
+            }
+            // if a session on the left ends after start, either it overlaps or every session to the right starts
+            // too late to overlap, so only one side ever needs to be searched
+            if (node.left != null && node.left.maxEnd.isAfter(start)) {
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the sessions that overlap the time range from {@code start} to {@code end}, in
+     * {@link Session#SESSION_ORDER}. Sessions that only touch the range do not overlap it.
+     */
+    public List<Session> findAllOverlapping(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+
+        List<Session> overlapping = new ArrayList<>();
+        collectOverlapping(root, start, end, overlapping);
+        return overlapping;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Session)) {
+            return false;
+        }
+
+        Session session = (Session) other;
+        Node node = root;
+        while (node != null) {
+            int comparison = Session.SESSION_ORDER.compare(session, node.session);
+            if (comparison == 0) {
+                return true;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    @Override
+    public Iterator<Session> iterator() {
+        return new InOrderIterator(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // both in the same order, so they can be compared element by element
+        if (other instanceof SessionTimeline) {
+            SessionTimeline otherTimeline = (SessionTimeline) other;
+            if (size() != otherTimeline.size()) {
+                return false;
+            }
+            Iterator<Session> otherSessions = otherTimeline.iterator();
+            for (Session session : this) {
+                if (!session.equals(otherSessions.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    //// tree operations
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Adds the sessions in the subtree of {@code node} that overlap the range from {@code start} to {@code end} to
+     * {@code overlapping}, in order. Subtrees that end too early or start too late are skipped.
+     */
+    private static void collectOverlapping(Node node, LocalDateTime start, LocalDateTime end,
+                                           List<Session> overlapping) {
+        if (node == null || !node.maxEnd.isAfter(start)) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, overlapping);
+        if (!node.session.getStartDate().isBefore(end)) {
+            return; // this session and every session to its right start too late
+        }
+        if (node.session.overlaps(start, end)) {
+            overlapping.add(node.session);
+        }
+        collectOverlapping(node.right, start, end, overlapping);
+    }
+
+    /**
+     * Returns a balanced tree of {@code sorted.subList(from, to)}, which must be sorted and distinct.
+     */
+    private static Node build(List<Session> sorted, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node(build(sorted, from, middle), sorted.get(middle), build(sorted, middle + 1, to));
+    }
+
+    private static Node insert(Node node, Session session) {
+        if (node == null) {
+            return new Node(null, session, null);
+        }
+
+        int comparison = Session.SESSION_ORDER.compare(session, node.session);
+        if (comparison < 0) {
+            Node newLeft = insert(node.left, session);
+            return newLeft == node.left ? node : balance(newLeft, node.session, node.right);
+        } else if (comparison > 0) {
+            Node newRight = insert(node.right, session);
+            return newRight == node.right ? node : balance(node.left, node.session, newRight);
+        }
+        return node;
+    }
+
+    private static Node remove(Node node, Session session) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = Session.SESSION_ORDER.compare(session, node.session);
+        if (comparison < 0) {
+            Node newLeft = remove(node.left, session);
+            return newLeft == node.left ? node : balance(newLeft, node.session, node.right);
+        } else if (comparison > 0) {
+            Node newRight = remove(node.right, session);
+            return newRight == node.right ? node : balance(node.left, node.session, newRight);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.session, removeFirst(node.right));
+    }
+
+    private static Node removeFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(removeFirst(node.left), node.session, node.right);
+    }
+
+    /**
+     * Returns a node with the given children and session, rotated so that the heights of its children differ by at
+     * most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static Node balance(Node left, Session session, Node right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.left, left.session, new Node(left.right, session, right));
+            }
+            return new Node(new Node(left.left, left.session, left.right.left), left.right.session,
+                    new Node(left.right.right, session, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(new Node(left, session, right.left), right.session, right.right);
+            }
+            return new Node(new Node(left, session, right.left.left), right.left.session,
+                    new Node(right.left.right, right.session, right.right));
+        }
+        return new Node(left, session, right);
+    }
+
+    /**
+     * An immutable node of the tree, with the size, height and latest end time of its subtree.
+     */
+    private static final class Node {
+        private final Node left;
+        private final Session session;
+        private final Node right;
+        private final int size;
+        private final int height;
+        private final LocalDateTime maxEnd;
+
+        Node(Node left, Session session, Node right) {
+            this.left = left;
+            this.session = session;
+            this.right = right;
+            size = size(left) + 1 + size(right);
+            height = Math.max(height(left), height(right)) + 1;
+
+            LocalDateTime latestEnd = session.getEndDate();
+            if (left != null && left.maxEnd.isAfter(latestEnd)) {
+                latestEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(latestEnd)) {
+                latestEnd = right.maxEnd;
+            }
+            maxEnd = latestEnd;
+        }
+    }
+
+    /**
+     * Iterates over the sessions of a tree in order.
+     */
+    private static final class InOrderIterator implements Iterator<Session> {
+        private final Deque<Node> path = new ArrayDeque<>();
+
+        InOrderIterator(Node root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public Session next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.session;
+        }
+
+        private void pushLeftmostPath(Node node) {
+            for (Node current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Dob;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Height;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.School;
+import seedu.address.model.person.Weight;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+
+/**
+ * Generates a roster of synthetic athletes, teams and sessions of any size, for load testing and benchmarks.
+ *
+ * The roster is determined by its seed and sizes alone: each athlete and team is computed from the seed and its
+ * index, so the same roster can be generated again, and any part of it can be generated without the rest. Athletes
+ * and teams are generated as they are iterated over, so a roster of millions of athletes can be written out without
+ * being held in memory.
+ *
+ * Athlete {@code i} has id {@code i + 1}. Team {@code t} has the athletes at indices {@code 4t} to {@code 4t + 3} as
+ * its members, and sessions on consecutive days, so the sessions of a team never overlap. No two athletes have the
+ * same name and date of birth.
+ */
+public class RosterGenerator {
+
+    public static final String MESSAGE_TOO_MANY_TEAMS = "%1$d teams need %2$d athletes, but there are only %3$d.";
+
+    private static final String[] FIRST_NAMES = {"Aaron", "Aisha", "Alex", "Amanda", "Arjun", "Benjamin", "Bernice",
+        "Brandon", "Charlotte", "Chloe", "Daniel", "David", "Divya", "Elijah", "Emily", "Ethan", "Farah", "Gabriel",
+        "Hannah", "Haziq", "Isaac", "Irfan", "Jasmine", "Javier", "Jia Hui", "Joshua", "Kai", "Kavya", "Liam",
+        "Megan", "Nur", "Priya", "Rachel", "Roy", "Ryan", "Sarah", "Siti", "Wei Ling", "Xavier", "Zhi Hao"};
+    private static final String[] LAST_NAMES = {"Abdullah", "Balakrishnan", "Chan", "Chen", "Chua", "D'Souza", "Goh",
+        "Gunawan", "Ho", "Ibrahim", "Kumar", "Koh", "Lau", "Lee", "Lim", "Loh", "Menon", "Mohamed", "Ng", "Nair",
+        "O'Brien", "Oliveiro", "Ong", "Pillai", "Quek", "Rahman", "Sim", "Singh", "Tan", "Tay", "Teo", "Toh", "Wong",
+        "Yap", "Yeo", "Yeoh", "Yu", "Zainal"};
+    private static final LocalDate FIRST_DOB = LocalDate.of(2005, 1, 1);
+    private static final int DOB_DAYS = 8 * 365;
+    private static final long IDENTITY_COUNT = (long) FIRST_NAMES.length * LAST_NAMES.length * DOB_DAYS;
+
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "hotmail.com", "yahoo.com.sg", "example.com"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Road", "Clementi Avenue",
+        "Hougang Street", "Jurong West Street", "Pasir Ris Drive", "Tampines Street", "Woodlands Drive",
+        "Yishun Ring Road"};
+    private static final String[] SCHOOLS = {"Anderson Secondary School", "Bedok View Secondary School",
+        "Clementi Town Secondary School", "Dunman High School", "Hwa Chong Institution", "Nanyang Girls' High School",
+        "Raffles Institution", "River Valley High School", "Temasek Junior College", "Victoria Junior College"};
+    private static final String[] ROLES = {"member", "member", "member", "member", "member", "member", "sprinter",
+        "sprinter", "anchor", "reserve", "captain"};
+    private static final String[] TAGS = {"injured", "recovering", "personalBest", "vegetarian", "motivated",
+        "hamstringTight"};
+    private static final String[] LOCATIONS = {"Track", "Gym", "Pool", "Field", "Bishan Stadium",
+        "Kallang Practice Track"};
+    private static final LocalDate FIRST_SESSION_DAY = LocalDate.of(2025, 1, 6);
+
+    private final long seed;
+    private final int personCount;
+    private final int teamCount;
+    private final int sessionsPerTeam;
+    private final long identityMultiplier;
+    private final long identityOffset;
+
+    /**
+     * Creates a generator of {@code personCount} athletes and {@code teamCount} teams with {@code sessionsPerTeam}
+     * sessions each, determined by {@code seed}. Every team needs 4 athletes of its own.
+     *
+     * @throws IllegalArgumentException if a count is negative or there are not enough athletes for the teams.
+     */
+    public RosterGenerator(long seed, int personCount, int teamCount, int sessionsPerTeam) {
+        checkArgument(personCount >= 0 && teamCount >= 0 && sessionsPerTeam >= 0, "Counts must not be negative.");
+        checkArgument((long) teamCount * Team.TEAM_SIZE <= personCount, String.format(MESSAGE_TOO_MANY_TEAMS,
+                teamCount, (long) teamCount * Team.TEAM_SIZE, personCount));
+
+        this.seed = seed;
+        this.personCount = personCount;
+        this.teamCount = teamCount;
+        this.sessionsPerTeam = sessionsPerTeam;
+
+        // names and dates of birth are assigned through a permutation of all of their combinations, so they are
+        // spread out but never repeat
+        SplittableRandom random = new SplittableRandom(seed);
+        long multiplier = random.nextLong(IDENTITY_COUNT / 2, IDENTITY_COUNT);
+        while (gcd(multiplier, IDENTITY_COUNT) != 1) {
+            multiplier++;
+        }
+        identityMultiplier = multiplier;
+        identityOffset = random.nextLong(IDENTITY_COUNT);
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Returns the athlete at {@code index}, from 0 to the number of athletes.
+     */
+    public Person getPerson(int index) {
+        checkArgument(index >= 0 && index < personCount, "Athlete index out of range: " + index);
+        SplittableRandom random = randomFor(index, 0);
+
+        long identity = Math.floorMod(identityMultiplier * (index % IDENTITY_COUNT) + identityOffset, IDENTITY_COUNT);
+        String firstName = FIRST_NAMES[(int) (identity % FIRST_NAMES.length)];
+        identity /= FIRST_NAMES.length;
+        String lastName = LAST_NAMES[(int) (identity % LAST_NAMES.length)];
+        LocalDate dob = FIRST_DOB.plusDays(identity / LAST_NAMES.length);
+        long round = index / IDENTITY_COUNT; // only past the number of distinct identities
+        String fullName = round == 0 ? firstName + " " + lastName : firstName + " " + toLetters(round) + " " + lastName;
+
+        double height = clamp(168 + 9 * random.nextGaussian(), 140, 205);
+        double weight = clamp(20 + 2.5 * random.nextGaussian(), 16, 30) * (height / 100) * (height / 100);
+        String school = SCHOOLS[random.nextInt(SCHOOLS.length)];
+
+        return new Person(new PersonId(index + 1),
+                new Name(fullName),
+                new Dob(dob.toString()),
+                new Phone((random.nextBoolean() ? "8" : "9")
+                        + String.format(Locale.ROOT, "%07d", random.nextInt(10_000_000))),
+                new Email(toEmailLocalPart(firstName, lastName) + (index + 1) + "@"
+                        + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]),
+                new Address(String.format(Locale.ROOT, "Blk %d %s %d, #%02d-%d", 1 + random.nextInt(999),
+                        STREETS[random.nextInt(STREETS.length)], 1 + random.nextInt(99), 2 + random.nextInt(24),
+                        1 + random.nextInt(999))),
+                new School(school),
+                new Role(ROLES[random.nextInt(ROLES.length)]),
+                new Height(formatMeasurement(height, random)),
+                new Weight(formatMeasurement(clamp(weight, 30, 120), random)),
+                randomTags(random));
+    }
+
+    /**
+     * Returns the team at {@code index}, from 0 to the number of teams.
+     */
+    public Team getTeam(int index) {
+        checkArgument(index >= 0 && index < teamCount, "Team index out of range: " + index);
+        SplittableRandom random = randomFor(index, 1);
+
+        Set<Person> members = new HashSet<>();
+        for (int i = 0; i < Team.TEAM_SIZE; i++) {
+            members.add(getPerson(index * Team.TEAM_SIZE + i));
+        }
+
+        Set<Session> sessions = new HashSet<>();
+        for (int day = 0; day < sessionsPerTeam; day++) {
+            LocalDateTime start = FIRST_SESSION_DAY.plusDays(day)
+                    .atTime(6 + random.nextInt(14), 30 * random.nextInt(2));
+            sessions.add(new Session(new Location(LOCATIONS[random.nextInt(LOCATIONS.length)]), start,
+                    start.plusMinutes(60 + 30 * random.nextInt(4))));
+        }
+
+        return new Team(new TeamName("Relay Team " + (index + 1)), members, sessions);
+    }
+
+    /**
+     * Returns the athletes in order of index. They are generated while being iterated over.
+     */
+    public Iterable<Person> persons() {
+        return () -> IntStream.range(0, personCount).mapToObj(this::getPerson).iterator();
+    }
+
+    /**
+     * Returns the teams in order of index. They are generated while being iterated over.
+     */
+    public Iterable<Team> teams() {
+        return () -> IntStream.range(0, teamCount).mapToObj(this::getTeam).iterator();
+    }
+
+    /**
+     * Returns an address book with the whole roster.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        persons().forEach(addressBook::addPerson);
+        teams().forEach(addressBook::addTeam);
+        addressBook.takeChanges(); // a generated roster is not a change
+        return addressBook;
+    }
+
+    private SplittableRandom randomFor(int index, int kind) {
+        return new SplittableRandom(seed + 0x9E3779B97F4A7C15L * (2L * index + kind + 1));
+    }
+
+    private static Set<Tag> randomTags(SplittableRandom random) {
+        Set<Tag> tags = new HashSet<>();
+        if (random.nextInt(10) < 3) {
+            tags.add(new Tag(TAGS[random.nextInt(TAGS.length)]));
+            if (random.nextInt(3) == 0) {
+                tags.add(new Tag(TAGS[random.nextInt(TAGS.length)]));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns {@code value} in whole units, or with one decimal place for about a third of athletes.
+     */
+    private static String formatMeasurement(double value, SplittableRandom random) {
+        return random.nextInt(3) == 0 ? String.valueOf(Math.round(value * 10) / 10.0)
+                : String.valueOf(Math.round(value));
+    }
+
+    private static String toEmailLocalPart(String firstName, String lastName) {
+        return (firstName + "." + lastName).toLowerCase(Locale.ROOT).replaceAll("[^a-z.]", "");
+    }
+
+    /**
+     * Returns {@code number}, which must be positive, as letters in bijective base 26 ("A" to "Z", then "AA"), since
+     * names cannot contain digits.
+     */
+    private static String toLetters(long number) {
+        StringBuilder letters = new StringBuilder();
+        for (long remaining = number; remaining > 0; remaining = (remaining - 1) / 26) {
+            letters.append((char) ('A' + (remaining - 1) % 26));
+        }
+        return letters.reverse().toString();
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+}
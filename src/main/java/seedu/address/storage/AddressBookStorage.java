@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,13 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@code changes}, made to the address book since it was last saved, to the storage.
+     * @param addressBook the address book after the changes. Cannot be null.
+     * @param changes the changes, oldest first. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException;
+
 }
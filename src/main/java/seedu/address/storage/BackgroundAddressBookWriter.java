@@ -0,0 +1,430 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.session.SessionTimeline;
+
+/**
+ * Saves address book changes to an {@code AddressBookStorage} on a background thread.
+ *
+ * Changes submitted while a save is waiting or in progress are coalesced into the next save. A save waits at most
+ * {@code maxDelayMillis} after the first of its changes was submitted, so that a burst of changes is written in one go
+ * without any change staying unsaved for long. Changes from a failed save are retried with the next save.
+ *
+ * Only the changes are handed over by the thread that submits them, so a submit costs as much as its changes. The
+ * writer thread applies them to its own {@link Replica} of the address book, which the storage reads only if it saves
+ * the address book in full. The address book itself is only copied when it is replaced as a whole, and for the first
+ * submit, which the replica starts from.
+ *
+ * A save that fails unexpectedly (e.g. a change that does not fit the replica) is reported like a failed write, and
+ * the replica is started again from a copy taken with the next submit.
+ */
+class BackgroundAddressBookWriter {
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookWriter.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long maxDelayNanos;
+    private final Object lock = new Object();
+
+    // accessed only by the writer thread
+    private final Replica replica = new Replica();
+
+    // all fields below are guarded by lock
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    /** The contents of the address book after the pending changes up to {@code snapshotIndex}, if it was copied. */
+    private PendingSnapshot pendingSnapshot;
+    private int snapshotIndex;
+    /** Whether the replica has been given a copy of the address book to start from, since it last failed. */
+    private boolean isReplicaStarted;
+    private long firstPendingNanos;
+    private boolean isWriting;
+    private boolean isFlushRequested;
+    /** The error of the last save, if it failed and has not been retried yet. */
+    private IOException lastError;
+    private Consumer<IOException> errorHandler = e -> { };
+
+    /**
+     * Creates a {@code BackgroundAddressBookWriter} that saves to {@code addressBookStorage} and starts its thread.
+     */
+    BackgroundAddressBookWriter(AddressBookStorage addressBookStorage, long maxDelayMillis) {
+        requireNonNull(addressBookStorage);
+        assert maxDelayMillis >= 0;
+
+        this.addressBookStorage = addressBookStorage;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        Thread writerThread = new Thread(this::runWriter, "address-book-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Sets the handler called, on the writer thread, with the error of every save that fails.
+     */
+    void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        synchronized (lock) {
+            this.errorHandler = errorHandler;
+        }
+    }
+
+    /**
+     * Queues {@code changes}, which made {@code addressBook} what it is now, to be saved.
+     * {@code addressBook} is only copied if {@code changes} replace it as a whole, or if this is the first submit.
+     * {@code addressBook} may be modified as soon as this method returns.
+     */
+    void submit(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        synchronized (lock) {
+            if (changes.isEmpty()) {
+                return;
+            }
+            if (pendingChanges.isEmpty()) {
+                firstPendingNanos = System.nanoTime();
+            }
+            pendingChanges.addAll(changes);
+            boolean isReset = changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+            if (isReset || !isReplicaStarted) {
+                pendingSnapshot = new PendingSnapshot(addressBook);
+                snapshotIndex = pendingChanges.size();
+                isReplicaStarted = true;
+            }
+            lastError = null;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Saves all queued changes now and waits until they are saved, for at most {@code FLUSH_TIMEOUT_MILLIS}.
+     *
+     * @throws IOException if the save failed or did not finish in time.
+     */
+    void flush() throws IOException {
+        synchronized (lock) {
+            if (!isReplicaStarted && lastError != null) {
+                // the queued changes cannot be saved until the address book is submitted again
+                throw lastError;
+            }
+            isFlushRequested = true;
+            lastError = null;
+            lock.notifyAll();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+            try {
+                while ((!pendingChanges.isEmpty() || isWriting) && lastError == null) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        throw new IOException("Data not saved within " + FLUSH_TIMEOUT_MILLIS + " ms");
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(lock, remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while saving data", e);
+            } finally {
+                isFlushRequested = false;
+            }
+            if (lastError != null) {
+                throw lastError;
+            }
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            PendingSnapshot snapshot;
+            int changesAfterSnapshot;
+            List<AddressBookChange> changes;
+            Consumer<IOException> handler;
+            synchronized (lock) {
+                try {
+                    waitForSave();
+                } catch (InterruptedException e) {
+                    logger.warning("Address book writer interrupted; unsaved changes may be lost");
+                    return;
+                }
+
+                snapshot = pendingSnapshot;
+                changesAfterSnapshot = pendingChanges.size() - snapshotIndex;
+                changes = new ArrayList<>(pendingChanges);
+                pendingSnapshot = null;
+                snapshotIndex = 0;
+                pendingChanges.clear();
+                isWriting = true;
+                handler = errorHandler;
+            }
+
+            IOException error = null;
+            boolean isReplicaBroken = false;
+            try {
+                save(snapshot, changes, changesAfterSnapshot);
+            } catch (IOException e) {
+                logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+                error = e;
+            } catch (Throwable t) {
+                logger.severe("Unexpected error while saving address book " + StringUtil.getDetails(t));
+                error = new IOException("Unexpected error while saving data: " + t, t);
+                isReplicaBroken = true;
+            }
+
+            try {
+                if (error != null) {
+                    handler.accept(error);
+                }
+            } catch (RuntimeException e) {
+                logger.warning("Save error handler failed " + StringUtil.getDetails(e));
+            } finally {
+                synchronized (lock) {
+                    isWriting = false;
+                    if (error != null) {
+                        requeueFailedSave();
+                        lastError = error;
+                    }
+                    if (isReplicaBroken && pendingSnapshot == null) {
+                        isReplicaStarted = false; // the next submit copies the address book again
+                    }
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Brings the replica up to date with {@code changes} and saves them. If there is a {@code snapshot}, only the last
+     * {@code changesAfterSnapshot} changes are applied to it.
+     */
+    private void save(PendingSnapshot snapshot, List<AddressBookChange> changes, int changesAfterSnapshot)
+            throws IOException {
+        if (snapshot == null) {
+            changes.forEach(replica::apply);
+        } else {
+            replica.reset(snapshot.persons, snapshot.teams);
+            changes.subList(changes.size() - changesAfterSnapshot, changes.size()).forEach(replica::apply);
+        }
+        addressBookStorage.saveAddressBookChanges(replica.toReadOnlyAddressBook(), changes);
+    }
+
+    /**
+     * Waits until there are changes to save and they are due.
+     * Changes from a failed save are only due once more changes are submitted or a flush is requested, and only once
+     * the address book is submitted again if the replica failed.
+     */
+    private void waitForSave() throws InterruptedException {
+        while (pendingChanges.isEmpty() || lastError != null || !isReplicaStarted) {
+            lock.wait();
+        }
+
+        long remainingNanos = firstPendingNanos + maxDelayNanos - System.nanoTime();
+        while (!isFlushRequested && remainingNanos > 0) {
+            TimeUnit.NANOSECONDS.timedWait(lock, remainingNanos);
+            remainingNanos = firstPendingNanos + maxDelayNanos - System.nanoTime();
+        }
+    }
+
+    /**
+     * Queues the address book to be saved again in full, together with any newer changes, since the storage may have
+     * saved only part of the failed changes. The replica already holds the failed changes, so nothing is copied.
+     */
+    private void requeueFailedSave() {
+        if (pendingChanges.isEmpty()) {
+            firstPendingNanos = System.nanoTime();
+        }
+        pendingChanges.add(0, AddressBookChange.reset());
+        if (pendingSnapshot != null) {
+            snapshotIndex++;
+        }
+    }
+
+    /**
+     * The persons and teams of an address book, copied when it was submitted.
+     */
+    private static class PendingSnapshot {
+        private final List<Person> persons;
+        private final List<Team> teams;
+
+        PendingSnapshot(ReadOnlyAddressBook source) {
+            persons = List.copyOf(source.getPersonList());
+            teams = List.copyOf(source.getTeamList());
+        }
+    }
+
+    /**
+     * The persons and teams of the address book as of the changes that the writer has taken, kept by the writer
+     * thread. Persons are kept in slots found by their identity, so that each change to them is applied in constant
+     * time; a removed person leaves an empty slot until more than half of the slots are empty. Teams are found by
+     * name, as there are few of them. Added persons and teams go at the position their change gives, as when the
+     * journal is replayed. Only an undone removal gives one other than the end, so the slots are then laid out again.
+     */
+    private static class Replica {
+        private List<Person> personSlots = new ArrayList<>();
+        private final Map<List<Object>, Integer> slotsByIdentity = new HashMap<>();
+        private int emptySlotCount = 0;
+        private final List<Team> teams = new ArrayList<>();
+
+        void reset(List<Person> persons, List<Team> teams) {
+            setPersons(new ArrayList<>(persons));
+            this.teams.clear();
+            this.teams.addAll(teams);
+        }
+
+        /**
+         * Applies {@code change}, which must fit the contents of the replica.
+         */
+        void apply(AddressBookChange change) {
+            switch (change.getType()) {
+            case ADD_PERSON:
+                if (change.getIndex() < 0) {
+                    slotsByIdentity.put(identityOf(change.getPerson()), personSlots.size());
+                    personSlots.add(change.getPerson());
+                } else {
+                    List<Person> persons = getPersons();
+                    persons.add(change.getIndex(), change.getPerson());
+                    setPersons(persons);
+                }
+                break;
+            case SET_PERSON:
+                int slot = removeSlot(change.getPerson());
+                slotsByIdentity.put(identityOf(change.getEditedPerson()), slot);
+                personSlots.set(slot, change.getEditedPerson());
+                break;
+            case REMOVE_PERSON:
+                removePerson(change.getPerson());
+                break;
+            case ADD_TEAM:
+                if (change.getIndex() < 0) {
+                    teams.add(change.getTeam());
+                } else {
+                    teams.add(change.getIndex(), change.getTeam());
+                }
+                break;
+            case SET_TEAM:
+                teams.set(indexOfTeam(change.getTeam()), change.getEditedTeam());
+                break;
+            case REMOVE_TEAM:
+                teams.remove(indexOfTeam(change.getTeam()));
+                break;
+            case ADD_SESSION:
+                setSessions(change.getTeam(), sessions -> sessions.with(change.getSession()));
+                break;
+            case REMOVE_SESSION:
+                setSessions(change.getTeam(), sessions -> sessions.without(change.getSession()));
+                break;
+            case RESET:
+                break; // submitted with a copy of the address book, which the replica is reset to instead
+            default:
+                throw new AssertionError(change.getType());
+            }
+        }
+
+        /**
+         * Returns a view of the replica whose lists are only copied out of it if they are read, and which must not be
+         * read after the replica changes.
+         */
+        ReadOnlyAddressBook toReadOnlyAddressBook() {
+            return new ReadOnlyAddressBook() {
+                private ObservableList<Person> persons;
+                private ObservableList<Team> teamList;
+
+                @Override
+                public ObservableList<Person> getPersonList() {
+                    if (persons == null) {
+                        persons = FXCollections.unmodifiableObservableList(
+                                FXCollections.observableArrayList(getPersons()));
+                    }
+                    return persons;
+                }
+
+                @Override
+                public ObservableList<Team> getTeamList() {
+                    if (teamList == null) {
+                        teamList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(teams));
+                    }
+                    return teamList;
+                }
+            };
+        }
+
+        /**
+         * Returns the slot of {@code person}, which is no longer found by its identity.
+         *
+         * @throws IllegalStateException if {@code person} is not in the replica.
+         */
+        private int removeSlot(Person person) {
+            Integer slot = slotsByIdentity.remove(identityOf(person));
+            if (slot == null) {
+                throw new IllegalStateException("Person not found in the saved address book: " + person.getName());
+            }
+            return slot;
+        }
+
+        private void removePerson(Person person) {
+            personSlots.set(removeSlot(person), null);
+            emptySlotCount++;
+            if (emptySlotCount * 2 > personSlots.size()) {
+                setPersons(getPersons());
+            }
+        }
+
+        private void setPersons(List<Person> persons) {
+            personSlots = persons;
+            slotsByIdentity.clear();
+            for (int i = 0; i < persons.size(); i++) {
+                slotsByIdentity.put(identityOf(persons.get(i)), i);
+            }
+            emptySlotCount = 0;
+        }
+
+        private void setSessions(Team target, UnaryOperator<SessionTimeline> update) {
+            int index = indexOfTeam(target);
+            Team team = teams.get(index);
+            teams.set(index, team.withSessions(update.apply(team.getSessions())));
+        }
+
+        private List<Person> getPersons() {
+            List<Person> persons = new ArrayList<>(personSlots.size() - emptySlotCount);
+            for (Person person : personSlots) {
+                if (person != null) {
+                    persons.add(person);
+                }
+            }
+            return persons;
+        }
+
+        private int indexOfTeam(Team team) {
+            for (int i = 0; i < teams.size(); i++) {
+                if (teams.get(i).isSameTeam(team)) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Team not found in the saved address book: " + team.getName());
+        }
+
+        /**
+         * Returns the identity of {@code person}, which is its name and date of birth.
+         */
+        private static List<Object> identityOf(Person person) {
+            return List.of(person.getName(), person.getDob());
+        }
+    }
+}
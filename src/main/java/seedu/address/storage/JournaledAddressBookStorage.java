@@ -0,0 +1,255 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus a journal of the changes made since the
+ * snapshot was written.
+ *
+ * Each save appends one compact json record per change to the journal file next to the snapshot, so the cost of a
+ * save is proportional to the change rather than to the size of the address book. Once the journal holds
+ * {@code compactionThreshold} records, the next save folds it into a fresh snapshot. Reading the address book
+ * replays the journal on top of the snapshot.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String COMPACTION_FILE_SUFFIX = ".compacting";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final int compactionThreshold;
+
+    /** Number of records in the journal, or -1 if the journal may not match what was last saved or read. */
+    private int journalSize = -1;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that compacts its journal once it holds
+     * {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        assert compactionThreshold > 0;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal file kept next to the data file.
+     */
+    public Path getJournalFilePath() {
+        return siblingOf(getAddressBookFilePath(), JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the data file of this storage, changes journaled since its snapshot are replayed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return super.readAddressBook(filePath);
+        }
+
+        journalSize = -1;
+        try {
+            recoverInterruptedCompaction();
+        } catch (IOException e) {
+            logger.warning("Error recovering from an interrupted compaction of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        OptionalInt version = readAddressBookFile(filePath, addressBook);
+        if (version.isEmpty()) {
+            if (Files.exists(getJournalFilePath())) {
+                logger.warning("Ignoring journal " + getJournalFilePath()
+                        + " as there is no data file to replay it on");
+            }
+            return Optional.empty();
+        }
+
+        int replayedSize = replayJournal(addressBook);
+        addressBook.takeChanges();
+        // A snapshot in an older version of the data format is rewritten by the next save rather than appended to
+        journalSize = version.getAsInt() < JsonSerializableAddressBook.CURRENT_VERSION ? -1 : replayedSize;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If {@code filePath} is the data file of this storage, its journal is folded into the new snapshot.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        journalSize = -1;
+        compact(addressBook);
+        journalSize = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The changes are appended to the journal, unless the journal is due for compaction or cannot be trusted to
+     * match the data file (e.g. nothing has been read or saved yet, or an earlier save failed), in which case a
+     * fresh snapshot is written instead.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        boolean isReset = changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+        if (isReset || journalSize < 0 || journalSize + changes.size() > compactionThreshold) {
+            saveAddressBook(addressBook);
+            return;
+        }
+
+        List<String> records = new ArrayList<>();
+        for (AddressBookChange change : changes) {
+            records.add(JsonUtil.toCompactJsonString(new JsonAdaptedChange(change)));
+        }
+
+        int sizeBeforeAppend = journalSize;
+        journalSize = -1;
+        try (BufferedWriter writer = Files.newBufferedWriter(getJournalFilePath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (String record : records) {
+                writer.write(record);
+                writer.newLine();
+            }
+        }
+        journalSize = sizeBeforeAppend + records.size();
+    }
+
+    /**
+     * Applies the records in the journal to {@code addressBook}, oldest first, and returns the number applied.
+     * A final record that cannot be parsed is assumed to have been cut short by a crash and is skipped; -1 is then
+     * returned so that the next save rewrites the snapshot instead of appending after the broken record.
+     */
+    private int replayJournal(AddressBook addressBook) throws DataLoadingException {
+        Path journalFilePath = getJournalFilePath();
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+        logger.info("Replaying journal " + journalFilePath);
+
+        List<String> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(line);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        for (int i = 0; i < records.size(); i++) {
+            JsonAdaptedChange change;
+            try {
+                change = JsonUtil.fromJsonString(records.get(i), JsonAdaptedChange.class);
+            } catch (IOException e) {
+                if (i == records.size() - 1) {
+                    logger.warning("Skipping incomplete last record of journal " + journalFilePath + ": " + e);
+                    return -1;
+                }
+                logger.warning("Error reading record " + (i + 1) + " of journal " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                change.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in record " + (i + 1) + " of journal " + journalFilePath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+        return records.size();
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and discards the journal.
+     * The snapshot is first written in full to a separate file, so that an interrupted compaction can be told apart
+     * from a completed one by {@link #recoverInterruptedCompaction()}.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path compactionFilePath = siblingOf(filePath, COMPACTION_FILE_SUFFIX);
+
+        FileUtil.createIfMissing(compactionFilePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), compactionFilePath);
+        Files.deleteIfExists(getJournalFilePath());
+        Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Finishes or rolls back a compaction that was interrupted before its snapshot replaced the data file.
+     * The journal is only deleted once the new snapshot has been written in full, so a new snapshot with no journal
+     * left is complete, while one with the journal still present may not be.
+     */
+    private void recoverInterruptedCompaction() throws IOException {
+        Path filePath = getAddressBookFilePath();
+        Path compactionFilePath = siblingOf(filePath, COMPACTION_FILE_SUFFIX);
+        if (!Files.exists(compactionFilePath)) {
+            return;
+        }
+
+        if (Files.exists(getJournalFilePath())) {
+            logger.warning("Discarding incomplete snapshot " + compactionFilePath);
+            Files.delete(compactionFilePath);
+        } else {
+            logger.warning("Completing interrupted compaction of " + filePath);
+            Files.move(compactionFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, stored as one record of the change journal.
+ * Teams that already exist are referred to by name only. The position of an added person or team is only stored if it
+ * was not added at the end of its list.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal record has an unknown type: %s";
+    public static final String MESSAGE_INVALID_CHANGE = "Journal record cannot be applied to the data: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final String teamName;
+    private final JsonAdaptedTeam team;
+    private final JsonAdaptedSession session;
+    private final Integer index;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") String type,
+                             @JsonProperty("person") JsonAdaptedPerson person,
+                             @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+                             @JsonProperty("teamName") String teamName,
+                             @JsonProperty("team") JsonAdaptedTeam team,
+                             @JsonProperty("session") JsonAdaptedSession session,
+                             @JsonProperty("index") Integer index) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.teamName = teamName;
+        this.team = team;
+        this.session = session;
+        this.index = index;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     * {@code source} must not be a {@code RESET} change, which cannot be journaled.
+     */
+    public JsonAdaptedChange(AddressBookChange source) {
+        assert source.getType() != AddressBookChange.Type.RESET : "A reset cannot be journaled";
+
+        type = source.getType().name();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        editedPerson = source.getEditedPerson() == null ? null : new JsonAdaptedPerson(source.getEditedPerson());
+
+        switch (source.getType()) {
+        case ADD_TEAM:
+            teamName = null;
+            team = new JsonAdaptedTeam(source.getTeam());
+            break;
+        case SET_TEAM:
+            teamName = source.getTeam().getName().fullTeamName;
+            team = new JsonAdaptedTeam(source.getEditedTeam());
+            break;
+        default:
+            teamName = source.getTeam() == null ? null : source.getTeam().getName().fullTeamName;
+            team = null;
+            break;
+        }
+
+        session = source.getSession() == null ? null : new JsonAdaptedSession(source.getSession());
+        index = source.getIndex() < 0 ? null : source.getIndex();
+    }
+
+    /**
+     * Applies the change described by this record to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if the change does not fit the
+     *     current contents of {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        AddressBookChange.Type modelType;
+        try {
+            modelType = AddressBookChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        try {
+            switch (modelType) {
+            case ADD_PERSON:
+                if (index == null) {
+                    addressBook.addPerson(require(person, "person").toModelType());
+                } else {
+                    addressBook.addPerson(index, require(person, "person").toModelType());
+                }
+                break;
+            case SET_PERSON:
+                addressBook.setPerson(require(person, "person").toModelType(),
+                        require(editedPerson, "editedPerson").toModelType());
+                break;
+            case REMOVE_PERSON:
+                addressBook.removePerson(require(person, "person").toModelType());
+                break;
+            case ADD_TEAM:
+                if (index == null) {
+                    addressBook.addTeam(require(team, "team").toModelType(addressBook));
+                } else {
+                    addressBook.addTeam(index, require(team, "team").toModelType(addressBook));
+                }
+                break;
+            case SET_TEAM:
+                addressBook.setTeam(getTeam(addressBook), require(team, "team").toModelType(addressBook));
+                break;
+            case REMOVE_TEAM:
+                addressBook.removeTeam(getTeam(addressBook));
+                break;
+            case ADD_SESSION:
+                addressBook.addSessionToTeam(getTeam(addressBook), require(session, "session").toModelType());
+                break;
+            case REMOVE_SESSION:
+                addressBook.removeSessionFromTeam(getTeam(addressBook), require(session, "session").toModelType());
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+            }
+        } catch (RuntimeException e) {
+            // the model rejects changes that do not fit its contents with unchecked exceptions
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, e.getMessage()), e);
+        }
+    }
+
+    private Team getTeam(AddressBook addressBook) throws IllegalValueException {
+        if (teamName == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "teamName"));
+        }
+        if (!TeamName.isValidName(teamName)) {
+            throw new IllegalValueException(TeamName.MESSAGE_CONSTRAINTS);
+        }
+
+        TeamName modelTeamName = new TeamName(teamName);
+        for (Team existingTeam : addressBook.getTeamList()) {
+            if (existingTeam.getName().equals(modelTeamName)) {
+                return existingTeam;
+            }
+        }
+        throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, "no team named " + teamName));
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,6 +17,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Height;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.School;
@@ -29,6 +31,8 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer id; // not in versions 1 and 2 of the data format
     private final String name;
     private final String phone;
     private final String email;
@@ -44,7 +48,8 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name,
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id,
+                             @JsonProperty("name") String name,
                              @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email,
                              @JsonProperty("address") String address,
@@ -54,6 +59,7 @@ class JsonAdaptedPerson {
                              @JsonProperty("weight") String weight,
                              @JsonProperty("dob") String dob,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -72,6 +78,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId() == null ? null : source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -88,6 +95,7 @@ class JsonAdaptedPerson {
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The person has no id if none is stored.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
@@ -97,6 +105,12 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        // Id
+        if (id != null && !PersonId.isValidId(id)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        final PersonId modelId = id == null ? null : new PersonId(id);
+
         // Name
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -182,7 +196,7 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         // Return the final Person model
-        return new Person(modelName, modelDob, modelPhone, modelEmail, modelAddress,
+        return new Person(modelId, modelName, modelDob, modelPhone, modelEmail, modelAddress,
                 modelSchool, modelRole, modelHeight, modelWeight, modelTags);
     }
 }
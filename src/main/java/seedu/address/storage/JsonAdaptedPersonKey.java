@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Dob;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly reference to a {@link Person} in the persons list, by the fields that identify the person.
+ * Teams saved in version 2 of the data format refer to their members this way.
+ */
+class JsonAdaptedPersonKey {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Team member's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Team member %s (born %s) is not in the persons list.";
+
+    private final String name;
+    private final String dob;
+
+    /**
+     * Constructs a {@code JsonAdaptedPersonKey} with the given person identity.
+     */
+    @JsonCreator
+    public JsonAdaptedPersonKey(@JsonProperty("name") String name, @JsonProperty("dob") String dob) {
+        this.name = name;
+        this.dob = dob;
+    }
+
+    /**
+     * Returns the person in {@code addressBook} this key refers to.
+     *
+     * @throws IllegalValueException if the key is not valid or there is no such person in {@code addressBook}.
+     */
+    public Person toModelType(AddressBook addressBook) throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+
+        if (dob == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Dob.class.getSimpleName()));
+        }
+        if (!Dob.isValidDob(dob)) {
+            throw new IllegalValueException(Dob.MESSAGE_CONSTRAINTS);
+        }
+
+        Person person = addressBook.getPerson(new Name(name), new Dob(dob));
+        if (person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, name, dob));
+        }
+        return person;
+    }
+}
@@ -7,23 +7,34 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.TeamName;
 import seedu.address.model.team.session.Session;
 
 /**
  * Jackson-friendly version of {@link Team}.
+ * Members are stored as the ids of persons in the persons list. Teams saved in older versions of the data format
+ * refer to their members by name and date of birth (version 2) or hold full copies of them (version 1) instead,
+ * which are still read.
  */
 class JsonAdaptedTeam {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Team's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_MEMBER_ID = "Team member with id %d is not in the persons list.";
 
     private final String name;
-    private final List<JsonAdaptedPerson> members = new ArrayList<>();
+    private final List<Integer> memberIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedPersonKey> memberKeys = new ArrayList<>(); // only in version 2 of the data format
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedPerson> members = new ArrayList<>(); // only in version 1 of the data format
     private final List<JsonAdaptedSession> sessions = new ArrayList<>(); // optional sessions class
 
     /**
@@ -31,9 +42,17 @@ class JsonAdaptedTeam {
      */
     @JsonCreator
     public JsonAdaptedTeam(@JsonProperty("name") String name,
+                           @JsonProperty("memberIds") List<Integer> memberIds,
+                           @JsonProperty("memberKeys") List<JsonAdaptedPersonKey> memberKeys,
                            @JsonProperty("members") List<JsonAdaptedPerson> members,
                            @JsonProperty("sessions") List<JsonAdaptedSession> sessions) {
         this.name = name;
+        if (memberIds != null) {
+            this.memberIds.addAll(memberIds);
+        }
+        if (memberKeys != null) {
+            this.memberKeys.addAll(memberKeys);
+        }
         if (members != null) {
             this.members.addAll(members);
         }
@@ -47,9 +66,8 @@ class JsonAdaptedTeam {
      */
     public JsonAdaptedTeam(Team source) {
         name = source.getName().fullTeamName;
-        // Convert members to JsonAdaptedPerson
-        members.addAll(source.getMembers().stream()
-                .map(JsonAdaptedPerson::new)
+        memberIds.addAll(source.getMemberIds().stream()
+                .map(id -> id.value)
                 .collect(Collectors.toList()));
 
         // Convert sessions to JsonAdaptedSession
@@ -59,11 +77,14 @@ class JsonAdaptedTeam {
     }
 
     /**
-     * Converts this Jackson-friendly adapted team object into the model's {@code Team} object.
+     * Converts this Jackson-friendly adapted team object into the model's {@code Team} object, with its members
+     * taken from {@code addressBook}.
+     * Members stored in full (version 1 of the data format) that are not in {@code addressBook} yet are added to it.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, or a member is not in
+     *     {@code addressBook}.
      */
-    public Team toModelType() throws IllegalValueException {
+    public Team toModelType(AddressBook addressBook) throws IllegalValueException {
         // TeamName
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -76,8 +97,14 @@ class JsonAdaptedTeam {
 
         // Members
         final Set<Person> modelMembers = new HashSet<>();
+        for (Integer memberId : memberIds) {
+            modelMembers.add(toMember(addressBook, memberId));
+        }
+        for (JsonAdaptedPersonKey memberKey : memberKeys) {
+            modelMembers.add(memberKey.toModelType(addressBook));
+        }
         for (JsonAdaptedPerson member : members) {
-            modelMembers.add(member.toModelType());
+            modelMembers.add(toListedPerson(addressBook, member.toModelType()));
         }
 
         if (modelMembers.size() != Team.TEAM_SIZE) {
@@ -91,4 +118,33 @@ class JsonAdaptedTeam {
 
         return new Team(modelName, modelMembers, modelSessions);
     }
+
+    /**
+     * Returns the person in {@code addressBook} with the id {@code memberId}.
+     *
+     * @throws IllegalValueException if {@code memberId} is not a valid id of a person in {@code addressBook}.
+     */
+    private static Person toMember(AddressBook addressBook, Integer memberId) throws IllegalValueException {
+        if (memberId == null || !PersonId.isValidId(memberId)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+        }
+        Person member = addressBook.getPerson(new PersonId(memberId));
+        if (member == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_MEMBER_ID, memberId));
+        }
+        return member;
+    }
+
+    /**
+     * Returns the person in {@code addressBook} with the same identity as {@code member}, adding {@code member} to
+     * {@code addressBook} if there is none.
+     */
+    private static Person toListedPerson(AddressBook addressBook, Person member) {
+        Person listedPerson = addressBook.getPerson(member.getName(), member.getDob());
+        if (listedPerson != null) {
+            return listedPerson;
+        }
+        addressBook.addPerson(member);
+        return addressBook.getPerson(member.getName(), member.getDob());
+    }
 }
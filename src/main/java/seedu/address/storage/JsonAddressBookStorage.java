@@ -3,16 +3,26 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -44,19 +54,44 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
-
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        AddressBook addressBook = new AddressBook();
+        if (readAddressBookFile(filePath, addressBook).isEmpty()) {
             return Optional.empty();
         }
+        return Optional.of(addressBook);
+    }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+    /**
+     * Reads the address book in {@code filePath} into {@code addressBook}, and returns the version of the data format
+     * the file is in, or {@code OptionalInt.empty()} if the file is not found.
+     * The file is parsed as a stream, and each person is converted into the model's type as soon as it is parsed,
+     * so the file is never held in memory as a whole.
+     * A file in an older version of the data format is left as it is; the next save writes it in the current version.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    OptionalInt readAddressBookFile(Path filePath, AddressBook addressBook) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return OptionalInt.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        int version;
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            version = JsonSerializableAddressBook.readInto(parser, addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (version < JsonSerializableAddressBook.CURRENT_VERSION) {
+            logger.info(filePath + " is in version " + version + " of the data format, it will be saved in version "
+                    + JsonSerializableAddressBook.CURRENT_VERSION);
+        }
+        return OptionalInt.of(version);
     }
 
     @Override
@@ -77,4 +112,33 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
 
+    /**
+     * Saves an address book with {@code persons} and {@code teams} to {@code filePath}, writing each of them as it is
+     * iterated over, so that address books too large to be held in memory can be saved.
+     * The persons must have distinct ids and identities, and the members of the teams must be among the persons.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(Iterable<Person> persons, Iterable<Team> teams, Path filePath) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(teams);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (JsonGenerator generator = JsonUtil.createGenerator(Files.newOutputStream(filePath))) {
+            JsonSerializableAddressBook.writeTo(generator, persons, teams);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The whole address book is rewritten, regardless of how much of it changed.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireNonNull(changes);
+        saveAddressBook(addressBook);
+    }
+
 }
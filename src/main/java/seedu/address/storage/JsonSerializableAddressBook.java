@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,9 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -16,13 +20,23 @@ import seedu.address.model.team.Team;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Version 1 of the format, which has no version field, stores full copies of team members in each team; version 2
+ * refers to them by name and date of birth instead. Version 3 stores the id of each person, and teams refer to their
+ * members by id.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate id %d.";
     public static final String MESSAGE_DUPLICATE_TEAM = "Teams list contains duplicate team(s).";
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Data is not a json object of persons and teams.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data was saved in version %d of the data format, which is newer than this app supports.";
 
+    public static final int CURRENT_VERSION = 3;
+
+    private final int version;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedTeam> teams = new ArrayList<>();
 
@@ -31,8 +45,10 @@ class JsonSerializableAddressBook {
      */
     @JsonCreator
     public JsonSerializableAddressBook(
+            @JsonProperty("version") Integer version,
             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
             @JsonProperty("teams") List<JsonAdaptedTeam> teams) {
+        this.version = version == null ? 1 : version;
         if (persons != null) {
             this.persons.addAll(persons);
         }
@@ -47,6 +63,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        version = CURRENT_VERSION;
         persons.addAll(source.getPersonList().stream()
                 .map(JsonAdaptedPerson::new)
                 .collect(Collectors.toList()));
@@ -61,27 +78,130 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        checkVersion(version);
         AddressBook addressBook = new AddressBook();
 
         // Add persons
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            addPerson(addressBook, jsonAdaptedPerson);
         }
 
         // Add teams
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
-            Team team = jsonAdaptedTeam.toModelType();
-            if (addressBook.hasTeam(team)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
-            }
-            addressBook.addTeam(team);
+            addTeam(addressBook, jsonAdaptedTeam);
         }
 
+        addressBook.takeChanges(); // the loaded contents are not changes
         return addressBook;
     }
 
+    /**
+     * Reads the json object of a {@code JsonSerializableAddressBook} from {@code parser}, converts it into the
+     * model's types and adds them to {@code addressBook}, which must be empty.
+     * Each person is converted as soon as it is read, so that only one of them is held in its json form at a time,
+     * instead of the whole address book. Teams are converted once all persons are read.
+     *
+     * @return the version of the data format read.
+     * @throws IOException if the json could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static int readInto(JsonParser parser, AddressBook addressBook) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_ADDRESS_BOOK);
+        }
+
+        int version = 1;
+        List<JsonAdaptedTeam> teams = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if ("version".equals(fieldName) && valueToken == JsonToken.VALUE_NUMBER_INT) {
+                version = parser.getIntValue();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren(); // unknown fields and missing lists are ignored, as by Jackson
+                continue;
+            }
+
+            switch (fieldName) {
+            case "persons":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addPerson(addressBook, parser.readValueAs(JsonAdaptedPerson.class));
+                }
+                break;
+            case "teams":
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    teams.add(parser.readValueAs(JsonAdaptedTeam.class));
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+
+        checkVersion(version);
+        for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
+            addTeam(addressBook, jsonAdaptedTeam);
+        }
+
+        addressBook.takeChanges(); // the loaded contents are not changes
+        return version;
+    }
+
+    /**
+     * Writes {@code persons} and {@code teams} to {@code generator} as the json object of a
+     * {@code JsonSerializableAddressBook} in the current version of the data format.
+     * Each person and team is converted as it is written, so neither needs to be held in memory as a whole.
+     *
+     * @throws IOException if the json could not be written.
+     */
+    public static void writeTo(JsonGenerator generator, Iterable<Person> persons, Iterable<Team> teams)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("version", CURRENT_VERSION);
+
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("teams");
+        for (Team team : teams) {
+            generator.writeObject(new JsonAdaptedTeam(team));
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private static void checkVersion(int version) throws IllegalValueException {
+        if (version > CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    private static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (person.getId() != null && addressBook.getPerson(person.getId()) != null) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON_ID, person.getId().value));
+        }
+        addressBook.addPerson(person);
+    }
+
+    private static void addTeam(AddressBook addressBook, JsonAdaptedTeam jsonAdaptedTeam)
+            throws IllegalValueException {
+        Team team = jsonAdaptedTeam.toModelType(addressBook);
+        if (addressBook.hasTeam(team)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
+        }
+        addressBook.addTeam(team);
+    }
+
 }
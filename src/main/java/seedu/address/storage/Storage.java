@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +32,21 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException;
+
+    /**
+     * Sets the handler for errors from saving the address book in the background.
+     * The handler may be called on any thread. Errors from saves done before the save methods return are thrown by
+     * those methods instead.
+     */
+    void setAddressBookSaveErrorHandler(Consumer<IOException> errorHandler);
+
+    /**
+     * Saves any address book changes that are waiting to be saved in the background, and waits until they are saved.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushAddressBook() throws IOException;
+
 }
@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,15 +22,28 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundAddressBookWriter addressBookWriter;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address book changes are saved before the save methods return.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage} that
+     * saves address book changes on a background thread. Changes are saved at most {@code maxSaveDelayMillis}
+     * after they are made, and changes made in the meantime are saved together.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            long maxSaveDelayMillis) {
+        this(addressBookStorage, userPrefsStorage);
+        this.addressBookWriter = new BackgroundAddressBookWriter(addressBookStorage, maxSaveDelayMillis);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -66,6 +82,10 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBookWriter != null) {
+            saveAddressBookChanges(addressBook, List.of(AddressBookChange.reset()));
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
@@ -75,4 +95,31 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        if (addressBookWriter != null) {
+            logger.fine("Queueing " + changes.size() + " change(s) to data file: " + getAddressBookFilePath());
+            addressBookWriter.submit(addressBook, changes);
+            return;
+        }
+        logger.fine("Attempting to write " + changes.size() + " change(s) to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public void setAddressBookSaveErrorHandler(Consumer<IOException> errorHandler) {
+        if (addressBookWriter != null) {
+            addressBookWriter.setErrorHandler(errorHandler);
+        }
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (addressBookWriter != null) {
+            logger.fine("Flushing queued changes to data file: " + getAddressBookFilePath());
+            addressBookWriter.flush();
+        }
+    }
+
 }
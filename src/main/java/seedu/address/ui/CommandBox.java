@@ -1,12 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -33,6 +34,8 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is cleared as soon as the command is submitted, so the next command can be typed while it is
+     * executing. If the command fails, its text is put back unless another command has been typed since.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +44,19 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error != null) {
+                Platform.runLater(() -> handleCommandFailed(commandText));
+            }
+        });
+    }
+
+    private void handleCommandFailed(String commandText) {
+        if (commandTextField.getText().equals("")) {
+            commandTextField.setText(commandText);
         }
+        setStyleToIndicateCommandFailure();
     }
 
     /**
@@ -75,11 +85,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Submits the command to be executed and returns its result, which completes exceptionally if the command
+         * fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandQueue#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
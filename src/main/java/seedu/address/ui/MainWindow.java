@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -14,10 +17,9 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -26,11 +28,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_EXITING = "Closing once the commands already entered are done...";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
+    private ModelChangePublisher modelChangePublisher;
+    private boolean isExiting = false;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -68,12 +74,21 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = new CommandQueue(logic);
+        this.modelChangePublisher = new ModelChangePublisher();
+        commandQueue.setAfterCommandHandler(modelChangePublisher::publish);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
 
+        // closing the window also waits for the commands already entered
+        primaryStage.setOnCloseRequest(event -> {
+            event.consume();
+            handleExit();
+        });
+
         helpWindow = new HelpWindow();
     }
 
@@ -117,12 +132,14 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Fills up all the placeholders of this window.
+     * The panels show mirrors of the model's lists, as commands change the model on the thread of the command queue.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(modelChangePublisher.mirror(logic.getFilteredPersonList()));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        teamListPanel = new TeamListPanel(logic.getFilteredTeamList());
+        teamListPanel = new TeamListPanel(modelChangePublisher.mirror(logic.getFilteredTeamList()),
+                modelChangePublisher.mirror(logic.getAddressBook().getPersonList()));
         teamListPanelPlaceholder.getChildren().add(teamListPanel.getRoot());
 
         teamList.setVisible(false);
@@ -130,9 +147,15 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> {
+            logger.warning("Saving in the background failed: " + message);
+            resultDisplay.setFeedbackToUser(message);
+        }));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        commandQueue.setPendingCountHandler(() -> Platform.runLater(() ->
+                statusBarFooter.setPendingCommands(commandQueue.getPendingCount())));
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -196,15 +219,25 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Closes the application.
+     * Closes the application once the commands already entered are executed.
+     * The window stays responsive meanwhile, and says that it is finishing them.
      */
     @FXML
     private void handleExit() {
+        if (isExiting) {
+            return;
+        }
+        isExiting = true;
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
         helpWindow.hide();
-        primaryStage.hide();
+        if (commandQueue.getPendingCount() > 0) {
+            resultDisplay.setFeedbackToUser(MESSAGE_EXITING);
+        }
+        commandQueue.shutdownAsync().thenRun(() -> Platform.runLater(() -> {
+            logic.setGuiSettings(guiSettings);
+            primaryStage.hide();
+        }));
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -212,36 +245,46 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Submits the command to be executed in the background and returns its result.
+     * The result is shown once the command is executed, after the changes it made to the lists.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.CommandQueue#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowTeams()) {
-                showTeamList();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> result = commandQueue.submit(commandText);
+        result.whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error == null) {
+                handleCommandResult(commandResult);
             } else {
-                showPersonList();
+                handleCommandError(commandText, error);
             }
+        }));
+        return result;
+    }
 
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+        if (commandResult.isShowTeams()) {
+            showTeamList();
+        } else {
+            showPersonList();
+        }
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
         }
     }
 
+    private void handleCommandError(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        logger.info("An error occurred while executing command: " + commandText);
+        resultDisplay.setFeedbackToUser(cause.getMessage());
+    }
+
 }
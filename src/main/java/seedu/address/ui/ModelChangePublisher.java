@@ -0,0 +1,173 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Publishes changes to lists of the model to copies of them that are only changed on the JavaFX application thread.
+ *
+ * Commands change the model on the thread of the {@code CommandQueue}, while the UI may only be changed on the JavaFX
+ * application thread, so the UI shows mirrors of the model's lists instead of the lists themselves. Changes are not
+ * forwarded one at a time: the added, removed and replaced ranges of each change to a list are recorded, and
+ * {@link #publish()}, called on the thread that changes the model once a command is done, hands the recorded changes
+ * to the JavaFX application thread in a single pulse, which replays them on the mirrors. Pulses that have not run yet
+ * are merged, so a burst of commands updates the UI once. As only the changed ranges of a mirror are changed, a
+ * {@code ListView} showing it keeps its selection, scroll position and cells.
+ */
+public class ModelChangePublisher {
+
+    private final Object lock = new Object();
+    private final List<ListMirror<?>> mirrors = new ArrayList<>();
+    private List<Runnable> pendingUpdates = new ArrayList<>();
+    private boolean isPulseScheduled = false;
+    private final Consumer<Runnable> pulseScheduler;
+
+    /**
+     * Creates a {@code ModelChangePublisher} that publishes changes to the JavaFX application thread.
+     */
+    public ModelChangePublisher() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code ModelChangePublisher} that runs each pulse with {@code pulseScheduler}.
+     */
+    ModelChangePublisher(Consumer<Runnable> pulseScheduler) {
+        this.pulseScheduler = requireNonNull(pulseScheduler);
+    }
+
+    /**
+     * Returns a list with the elements of {@code source} that is updated with the changes to {@code source} when they
+     * are published. Must be called before commands that may change {@code source} are executed.
+     */
+    public <T> ObservableList<T> mirror(ObservableList<T> source) {
+        requireNonNull(source);
+        ListMirror<T> mirror = new ListMirror<>(source);
+        synchronized (lock) {
+            mirrors.add(mirror);
+        }
+        return mirror.target;
+    }
+
+    /**
+     * Takes the changes recorded since the last call and schedules a pulse to replay them on the mirrors, unless one is
+     * already scheduled. Must be called on the thread that changes the lists, while they are not being changed.
+     */
+    public void publish() {
+        synchronized (lock) {
+            for (ListMirror<?> mirror : mirrors) {
+                if (mirror.hasChanges()) {
+                    pendingUpdates.add(mirror.takeChanges());
+                }
+            }
+            if (pendingUpdates.isEmpty() || isPulseScheduled) {
+                return;
+            }
+            isPulseScheduled = true;
+        }
+        pulseScheduler.accept(this::runPulse);
+    }
+
+    private void runPulse() {
+        List<Runnable> updates;
+        synchronized (lock) {
+            updates = pendingUpdates;
+            pendingUpdates = new ArrayList<>();
+            isPulseScheduled = false;
+        }
+        updates.forEach(Runnable::run);
+    }
+
+    /**
+     * A copy of a source list, and the changes to the source that have not been replayed on the copy yet.
+     * The changes are recorded on the thread that changes the source, and replayed on the JavaFX application thread.
+     */
+    private static class ListMirror<T> {
+        private final ObservableList<T> target;
+        private List<Runnable> changes = new ArrayList<>();
+
+        ListMirror(ObservableList<T> source) {
+            this.target = FXCollections.observableArrayList(source);
+            source.addListener((ListChangeListener<T>) change -> {
+                while (change.next()) {
+                    record(change);
+                }
+            });
+        }
+
+        boolean hasChanges() {
+            return !changes.isEmpty();
+        }
+
+        /**
+         * Returns an update that replays the changes recorded since the last call on the mirror, in order.
+         */
+        Runnable takeChanges() {
+            List<Runnable> taken = changes;
+            changes = new ArrayList<>();
+            return () -> taken.forEach(Runnable::run);
+        }
+
+        /**
+         * Records the current step of {@code change}. The elements are copied, as the source may change again
+         * before the step is replayed.
+         */
+        private void record(ListChangeListener.Change<? extends T> change) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                changes.add(() -> permute(from, permutation));
+            } else if (change.wasUpdated()) {
+                List<T> updated = new ArrayList<>(change.getList().subList(from, to));
+                changes.add(() -> replace(from, updated.size(), updated));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                changes.add(() -> replace(from, removedSize, added));
+            }
+        }
+
+        /**
+         * Replaces the {@code removedSize} elements of the mirror from {@code from} with {@code added}.
+         * Elements replaced one for one are set in place, so their cells are updated instead of recreated.
+         */
+        private void replace(int from, int removedSize, List<T> added) {
+            if (removedSize == added.size()) {
+                for (int i = 0; i < removedSize; i++) {
+                    target.set(from + i, added.get(i));
+                }
+                return;
+            }
+            if (removedSize > 0) {
+                target.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                target.addAll(from, added);
+            }
+        }
+
+        /**
+         * Moves the element at each index {@code from + i} of the mirror to index {@code permutation[i]}.
+         */
+        private void permute(int from, int[] permutation) {
+            List<T> permuted = new ArrayList<>(target.subList(from, from + permutation.length));
+            for (int i = 0; i < permutation.length; i++) {
+                permuted.set(permutation[i] - from, target.get(from + i));
+            }
+            target.remove(from, from + permutation.length);
+            target.addAll(from, permuted);
+        }
+    }
+}
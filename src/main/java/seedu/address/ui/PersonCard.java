@@ -2,8 +2,10 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
@@ -19,7 +21,9 @@ public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
-    public final Person person;
+    private static final DateTimeFormatter DOB_FORMATTER = DateTimeFormatter.ofPattern("d MMMM yyyy");
+
+    private Person person;
 
     @FXML private HBox cardPane;
     @FXML private Label name;
@@ -44,13 +48,11 @@ public class PersonCard extends UiPart<Region> {
     @FXML private HBox weightBox;
 
     /**
-     * A UI component that displays information of a {@code Person}.
+     * Creates an empty {@code PersonCard}, which displays a person once {@link #setPerson(Person, int)} is called.
+     * The card can be reused for other persons, so that list cells only load the FXML file once.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
-        id.setText(displayedIndex + ". ");
-        name.setText(person.getName().fullName);
 
         // bind the container HBoxes so hiding fields removes their layout space
         bindManagedToVisible(dobBox, phoneBox, addressBox, emailBox, schoolBox, roleBox, heightBox, weightBox, tags);
@@ -84,6 +86,23 @@ public class PersonCard extends UiPart<Region> {
         if (id != null) {
             id.managedProperty().bind(id.visibleProperty());
         }
+    }
+
+    /**
+     * A UI component that displays information of a {@code Person}.
+     */
+    public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays {@code person} with the given index on this card, replacing the person displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        this.person = person;
+        id.setText(displayedIndex + ". ");
+        name.setText(person.getName().fullName);
 
         String rawDob = person.getDob().value;
         String formattedDob = formatDateOfBirth(rawDob);
@@ -96,9 +115,27 @@ public class PersonCard extends UiPart<Region> {
         height.setText(PersonField.HEIGHT.getLabel() + person.getHeight().value);
         weight.setText(PersonField.WEIGHT.getLabel() + person.getWeight().value);
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        // reuse the tag labels of the previous person where possible
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList());
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                Label label = (Label) tagLabels.get(i);
+                label.setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+    }
+
+    public Person getPerson() {
+        return person;
     }
 
     private void bindManagedToVisible(Node... nodes) {
@@ -180,8 +217,7 @@ public class PersonCard extends UiPart<Region> {
     private String formatDateOfBirth(String rawDate) {
         try {
             LocalDate date = LocalDate.parse(rawDate);
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMMM yyyy");
-            return date.format(formatter);
+            return date.format(DOB_FORMATTER);
         } catch (Exception e) {
             return rawDate;
         }
@@ -31,8 +31,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once and reuses it for every person it displays, so scrolling does not load the
+     * card's FXML file again.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard card;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +45,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new PersonCard();
+                }
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
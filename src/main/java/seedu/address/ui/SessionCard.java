@@ -11,18 +11,34 @@ import seedu.address.model.team.session.Session;
  * An UI component that displays information of a {@code Session}.
  */
 public class SessionCard extends UiPart<HBox> {
+    static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
+
     private static final String FXML = "SessionCard.fxml";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm");
 
     @FXML private Label index;
     @FXML private Label locationLabel;
     @FXML private Label timeRange;
 
+    /**
+     * Creates an empty {@code SessionCard}, which displays a session once {@link #setSession(Session, int)} is
+     * called. The card can be reused for other sessions, so that list cells only load the FXML file once.
+     */
+    public SessionCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code SessionCard} with the given {@code Session} and index to display.
      */
     public SessionCard(Session session, int displayedIndex) {
-        super(FXML);
+        this();
+        setSession(session, displayedIndex);
+    }
+
+    /**
+     * Displays {@code session} with the given index on this card, replacing the session displayed before.
+     */
+    public void setSession(Session session, int displayedIndex) {
         index.setText(displayedIndex + ".");
 
         String formattedStart = session.getStartDate().format(DATE_FORMATTER);
@@ -14,15 +14,37 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private static final String STATUS_READY = "Ready";
+    private static final String STATUS_RUNNING = "Running a command";
+    private static final String STATUS_QUEUED = "Running a command, %1$d queued";
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label commandStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        setPendingCommands(0);
+    }
+
+    /**
+     * Shows whether a command is executing and how many more are waiting, out of {@code pendingCount} commands that
+     * are executing or waiting.
+     */
+    public void setPendingCommands(int pendingCount) {
+        if (pendingCount <= 0) {
+            commandStatus.setText(STATUS_READY);
+        } else if (pendingCount == 1) {
+            commandStatus.setText(STATUS_RUNNING);
+        } else {
+            commandStatus.setText(String.format(STATUS_QUEUED, pendingCount - 1));
+        }
     }
 
 }
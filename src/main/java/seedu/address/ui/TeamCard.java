@@ -1,43 +1,123 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableListBase;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.person.Person;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.session.Session;
+import seedu.address.model.team.session.SessionTimeline;
 
 /**
  * An UI component that displays information of a {@code Team}.
+ *
+ * The members and sessions of the team are summarised until the user chooses to show them. Member cards are only
+ * built when shown, and sessions are shown in a list that only creates cards for the sessions in view, so the cost
+ * of displaying a team does not grow with its number of sessions.
  */
 public class TeamCard extends UiPart<Region> {
     private static final String FXML = "TeamListCard.fxml";
 
-    public final Team team;
+    /** Number of sessions in view when the sessions are shown; the others are scrolled to. */
+    private static final int VISIBLE_SESSIONS = 5;
+    private static final double SESSION_CELL_HEIGHT = 70;
+
+    private Team team;
+    private List<Person> members;
+    private boolean membersShown;
+    private boolean sessionsShown;
 
     @FXML
     private Label id;
     @FXML
     private Label name;
     @FXML
+    private Button membersToggle;
+    @FXML
+    private Label memberSummary;
+    @FXML
     private VBox memberCards;
     @FXML
-    private VBox sessionCards;
+    private Button sessionsToggle;
+    @FXML
+    private Label sessionSummary;
+    @FXML
+    private ListView<Session> sessionListView;
 
     /**
-     * Creates a {@code TeamCard} with the given {@code Team} and index to display.
+     * Creates an empty {@code TeamCard}, which displays a team once {@link #setTeam(Team, List, int)} is called.
+     * The card can be reused for other teams, so that list cells only load the FXML file once.
      */
-    public TeamCard(Team team, int displayedIndex) {
+    public TeamCard() {
         super(FXML);
+        bindManagedToVisible(memberSummary, memberCards, sessionsToggle, sessionListView);
+        sessionListView.setCellFactory(listView -> new SessionListViewCell());
+        sessionListView.setFixedCellSize(SESSION_CELL_HEIGHT);
+    }
+
+    /**
+     * Creates a {@code TeamCard} with the given {@code Team}, its members and index to display.
+     */
+    public TeamCard(Team team, List<Person> members, int displayedIndex) {
+        this();
+        setTeam(team, members, displayedIndex);
+    }
+
+    /**
+     * Displays {@code team}, whose members are {@code members}, with the given index on this card, replacing the
+     * team displayed before. Members and sessions stay shown if the same team is displayed again.
+     */
+    public void setTeam(Team team, List<Person> members, int displayedIndex) {
+        boolean sameTeam = this.team != null && this.team.isSameTeam(team);
         this.team = team;
+        this.members = members;
 
         id.setText(displayedIndex + ". ");
         name.setText(team.getName().toString());
+        memberSummary.setText(members.stream()
+                .map(person -> person.getName().fullName)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        sessionSummary.setText(summarize(team.getSessions()));
 
-        team.getMembers().stream()
+        showMembers(sameTeam && membersShown);
+        showSessions(sameTeam && sessionsShown);
+    }
+
+    @FXML
+    private void handleToggleMembers() {
+        showMembers(!membersShown);
+    }
+
+    @FXML
+    private void handleToggleSessions() {
+        showSessions(!sessionsShown);
+    }
+
+    /**
+     * Shows the member cards if {@code shown}, or the summary of the members otherwise.
+     */
+    private void showMembers(boolean shown) {
+        membersShown = shown;
+        membersToggle.setText(shown ? "Hide" : "Show");
+        memberSummary.setVisible(!shown);
+        memberCards.setVisible(shown);
+        memberCards.getChildren().clear();
+        if (!shown) {
+            return;
+        }
+
+        members.stream()
                 .sorted(Comparator.comparing(p -> p.getName().fullName))
                 .forEach(person -> {
                     PersonCard smallCard = new PersonCard(person, -1);
@@ -53,23 +133,38 @@ public class TeamCard extends UiPart<Region> {
                     smallCard.getTags().setVisible(true);
                     memberCards.getChildren().add(smallCard.getRoot());
                 });
+    }
 
-        // Check if there are any sessions
-        if (team.getSessions().isEmpty()) {
-            // Display "No sessions yet" message
-            Label noSessionsLabel = new Label("No sessions yet");
-            noSessionsLabel.setStyle("-fx-text-fill: #888; -fx-font-style: italic; -fx-padding: 5;");
-            sessionCards.getChildren().add(noSessionsLabel);
-        } else {
-            AtomicInteger index = new AtomicInteger(1);
-            team.getSessions().stream()
-                    .sorted(Session.SESSION_ORDER)
-                    .forEach(session -> {
-                        SessionCard smallCard = new SessionCard(session, index.getAndIncrement());
-                        smallCard.getLocation().setVisible(true);
-                        smallCard.getSessionTimeRange().setVisible(true);
-                        sessionCards.getChildren().add(smallCard.getRoot());
-                    });
+    /**
+     * Shows the list of sessions if {@code shown} and the team has any sessions.
+     */
+    private void showSessions(boolean shown) {
+        SessionTimeline sessions = team.getSessions();
+        sessionsShown = shown && !sessions.isEmpty();
+        sessionsToggle.setVisible(!sessions.isEmpty());
+        sessionsToggle.setText(sessionsShown ? "Hide" : "Show");
+        sessionListView.setVisible(sessionsShown);
+        if (!sessionsShown) {
+            sessionListView.setItems(null);
+            return;
+        }
+
+        sessionListView.setItems(new SessionTimelineList(sessions));
+        sessionListView.setPrefHeight(Math.min(sessions.size(), VISIBLE_SESSIONS) * SESSION_CELL_HEIGHT + 2);
+    }
+
+    private static String summarize(SessionTimeline sessions) {
+        if (sessions.isEmpty()) {
+            return "No sessions yet";
+        }
+        return String.format("%d session(s), from %s to %s", sessions.size(),
+                sessions.get(0).getStartDate().format(SessionCard.DATE_FORMATTER),
+                sessions.get(sessions.size() - 1).getEndDate().format(SessionCard.DATE_FORMATTER));
+    }
+
+    private static void bindManagedToVisible(Node... nodes) {
+        for (Node node : nodes) {
+            node.managedProperty().bind(node.visibleProperty());
         }
     }
 
@@ -80,4 +175,49 @@ public class TeamCard extends UiPart<Region> {
                 && id.getText().equals(((TeamCard) other).id.getText())
                 && team.equals(((TeamCard) other).team));
     }
+
+    /**
+     * A read-only {@code ObservableList} view of a {@code SessionTimeline}, so that the list of sessions can be
+     * shown without copying the sessions.
+     */
+    private static class SessionTimelineList extends ObservableListBase<Session> {
+        private final SessionTimeline sessions;
+
+        SessionTimelineList(SessionTimeline sessions) {
+            this.sessions = sessions;
+        }
+
+        @Override
+        public Session get(int index) {
+            return sessions.get(index);
+        }
+
+        @Override
+        public int size() {
+            return sessions.size();
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays the graphics of a {@code Session} using a reused {@code SessionCard}.
+     */
+    private static class SessionListViewCell extends ListCell<Session> {
+        private SessionCard card;
+
+        @Override
+        protected void updateItem(Session session, boolean empty) {
+            super.updateItem(session, empty);
+
+            if (empty || session == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                if (card == null) {
+                    card = new SessionCard();
+                }
+                card.setSession(session, getIndex() + 1);
+                setGraphic(card.getRoot());
+            }
+        }
+    }
 }
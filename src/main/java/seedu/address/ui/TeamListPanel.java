@@ -1,13 +1,20 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.team.Team;
 
 /**
@@ -17,22 +24,56 @@ public class TeamListPanel extends UiPart<Region> {
     private static final String FXML = "TeamListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(TeamListPanel.class);
 
+    private final Map<PersonId, Person> personsById = new HashMap<>();
+
     @FXML
     private ListView<Team> teamListView;
 
     /**
-     * Creates a {@code TeamListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TeamListPanel} with the given {@code ObservableList}, whose members are looked up in
+     * {@code personList}, the list of all persons.
+     * Teams refer to their members by id and do not change when a member is edited, so the displayed teams are
+     * refreshed whenever a person in {@code personList} is replaced.
      */
-    public TeamListPanel(ObservableList<Team> teamList) {
+    public TeamListPanel(ObservableList<Team> teamList, ObservableList<Person> personList) {
         super(FXML);
+        indexPersons(personList);
         teamListView.setItems(teamList);
         teamListView.setCellFactory(listView -> new TeamListViewCell());
+        personList.addListener((ListChangeListener<Person>) change -> {
+            boolean wasReplaced = false;
+            while (change.next()) {
+                for (Person removed : change.getRemoved()) {
+                    personsById.remove(removed.getId());
+                }
+                indexPersons(change.getAddedSubList());
+                wasReplaced |= change.wasReplaced();
+            }
+            if (wasReplaced) {
+                teamListView.refresh();
+            }
+        });
+    }
+
+    private void indexPersons(List<? extends Person> persons) {
+        for (Person person : persons) {
+            personsById.put(person.getId(), person);
+        }
+    }
+
+    private List<Person> getMembers(Team team) {
+        return team.getMemberIds().stream()
+                .map(personsById::get)
+                .collect(Collectors.toList());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Team} using a {@code TeamCard}.
+     * Each cell creates its card once and reuses it for every team it displays.
      */
     class TeamListViewCell extends ListCell<Team> {
+        private TeamCard card;
+
         @Override
         protected void updateItem(Team team, boolean empty) {
             super.updateItem(team, empty);
@@ -41,7 +82,11 @@ public class TeamListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TeamCard(team, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new TeamCard();
+                }
+                card.setTeam(team, getMembers(team), getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void readRecord_nullReader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.readRecord(null));
+    }
+
+    @Test
+    public void readRecord_records_returnsFields() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader(
+                "a,b,,c\r\n"
+                + "\"123, Jurong West\",\"say \"\"hi\"\"\"\n"
+                + "\"two\nlines\",x\n"
+                + "\n"
+                + "\"unclosed,quote"));
+
+        assertEquals(List.of("a", "b", "", "c"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("123, Jurong West", "say \"hi\""), CsvUtil.readRecord(reader));
+        assertEquals(List.of("two\nlines", "x"), CsvUtil.readRecord(reader));
+        assertEquals(List.of(""), CsvUtil.readRecord(reader)); // blank line
+        assertEquals(List.of("unclosed,quote"), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void toRecord_fields_quotesOnlyWhenNeeded() {
+        assertEquals("", CsvUtil.toRecord(List.of()));
+        assertEquals("a,b c,", CsvUtil.toRecord(List.of("a", "b c", "")));
+        assertEquals("\"123, Jurong West\",\"say \"\"hi\"\"\",\"two\nlines\"",
+                CsvUtil.toRecord(List.of("123, Jurong West", "say \"hi\"", "two\nlines")));
+    }
+
+    @Test
+    public void toRecord_readRecord_roundTrip() throws IOException {
+        List<String> fields = List.of("plain", "comma, here", "\"quoted\"", "new\nline", "");
+        BufferedReader reader = new BufferedReader(new StringReader(CsvUtil.toRecord(fields)));
+        assertEquals(fields, CsvUtil.readRecord(reader));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class IcsUtilTest {
+
+    @Test
+    public void formatDateTime_dateTime_returnsFloatingDateTime() {
+        assertEquals("20251021T070509", IcsUtil.formatDateTime(LocalDateTime.of(2025, 10, 21, 7, 5, 9)));
+    }
+
+    @Test
+    public void appendText_specialCharacters_escaped() {
+        StringBuilder line = new StringBuilder("LOCATION:");
+        IcsUtil.appendText(line, "a\\b;c,d\r\ne");
+        assertEquals("LOCATION:a\\\\b\\;c\\,d\\ne", line.toString());
+    }
+
+    @Test
+    public void writeLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> IcsUtil.writeLine(new StringWriter(), null));
+    }
+
+    @Test
+    public void writeLine_shortLine_notFolded() throws IOException {
+        StringWriter writer = new StringWriter();
+        String line = "X".repeat(75);
+        IcsUtil.writeLine(writer, line);
+        assertEquals(line + "\r\n", writer.toString());
+    }
+
+    @Test
+    public void writeLine_longLine_foldedAt75Octets() throws IOException {
+        StringWriter writer = new StringWriter();
+        IcsUtil.writeLine(writer, "X".repeat(76) + "Y".repeat(74));
+        assertEquals("X".repeat(75) + "\r\n X" + "Y".repeat(73) + "\r\n Y\r\n", writer.toString());
+    }
+
+    @Test
+    public void writeLine_multiByteCharacters_notSplit() throws IOException {
+        StringWriter writer = new StringWriter();
+        String line = "SUMMARY:" + "\u00e9".repeat(40) + "\uD83C\uDFC3".repeat(10);
+        IcsUtil.writeLine(writer, line);
+
+        String written = writer.toString();
+        assertEquals(line, written.replace("\r\n ", "").replace("\r\n", ""));
+        for (String physicalLine : written.split("\r\n")) {
+            assertTrue(physicalLine.getBytes(StandardCharsets.UTF_8).length <= 75);
+            // a split surrogate pair would not survive encoding
+            assertEquals(physicalLine, new String(physicalLine.getBytes(StandardCharsets.UTF_8),
+                    StandardCharsets.UTF_8));
+        }
+    }
+}
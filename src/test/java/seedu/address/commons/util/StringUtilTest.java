@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,72 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toFoldedWords and containsAnyWord --------------------------------------
+
+    @Test
+    public void toFoldedWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toFoldedWords(null));
+    }
+
+    @Test
+    public void toFoldedWords_validInputs_correctResult() {
+        assertArrayEquals(new String[0], StringUtil.toFoldedWords(""));
+        assertArrayEquals(new String[0], StringUtil.toFoldedWords(" \t\n "));
+        assertArrayEquals(new String[] {"aaa", "bbb", "ccc@1"}, StringUtil.toFoldedWords("  AAA \t bBb\nccc@1  "));
+    }
+
+    @Test
+    public void containsAnyWord_validInputs_sameAsContainsWordIgnoreCase() {
+        String[] words = StringUtil.toFoldedWords("  AAA   bBb   ccc  ");
+
+        assertFalse(StringUtil.containsAnyWord(words, StringUtil.toFoldedKeywords(List.of())));
+        assertFalse(StringUtil.containsAnyWord(words, StringUtil.toFoldedKeywords(List.of("bb", "bbbb"))));
+        assertFalse(StringUtil.containsAnyWord(StringUtil.toFoldedWords(""), StringUtil.toFoldedKeywords(
+                List.of("abc"))));
+
+        assertTrue(StringUtil.containsAnyWord(words, StringUtil.toFoldedKeywords(List.of("Bbb"))));
+        assertTrue(StringUtil.containsAnyWord(words, StringUtil.toFoldedKeywords(List.of("xyz", "  ccc  "))));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_invalidInputs_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc", 1));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.getEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void getEditDistance_withinMaxDistance_returnsDistance() {
+        assertEquals(0, StringUtil.getEditDistance("", "", 0)); // Boundary value
+        assertEquals(0, StringUtil.getEditDistance("john", "john", 2));
+        assertEquals(1, StringUtil.getEditDistance("jon", "john", 2)); // missing letter
+        assertEquals(1, StringUtil.getEditDistance("johnn", "john", 2)); // extra letter
+        assertEquals(1, StringUtil.getEditDistance("jahn", "john", 2)); // wrong letter
+        assertEquals(1, StringUtil.getEditDistance("jonh", "john", 1)); // swapped letters
+        assertEquals(2, StringUtil.getEditDistance("jnoh", "john", 2));
+        assertEquals(3, StringUtil.getEditDistance("", "abc", 3)); // Boundary value
+    }
+
+    @Test
+    public void getEditDistance_beyondMaxDistance_returnsMaxDistancePlusOne() {
+        assertEquals(1, StringUtil.getEditDistance("john", "jane", 0));
+        assertEquals(2, StringUtil.getEditDistance("john", "jane", 1));
+        assertEquals(2, StringUtil.getEditDistance("jo", "john", 1)); // lengths differ too much
+        assertEquals(3, StringUtil.getEditDistance("alice", "bob", 2));
+    }
+
+    //---------------- Tests for isWhitespace --------------------------------------
+
+    @Test
+    public void isWhitespace_everyChar_sameAsRegexWhitespace() {
+        // same characters as \s in a regular expression
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            assertEquals(String.valueOf((char) c).matches("\\s"), StringUtil.isWhitespace((char) c));
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
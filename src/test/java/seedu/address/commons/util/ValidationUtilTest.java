@@ -0,0 +1,107 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.ValidationUtil.INVALID_TENTHS;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isDigits(null, 1, 3));
+
+        // EP: wrong length
+        assertFalse(ValidationUtil.isDigits("", 1, 3)); // Boundary value
+        assertFalse(ValidationUtil.isDigits("1234", 1, 3)); // Boundary value
+
+        // EP: not only digits
+        assertFalse(ValidationUtil.isDigits("1a", 1, 3));
+        assertFalse(ValidationUtil.isDigits("1 2", 1, 3));
+        assertFalse(ValidationUtil.isDigits("-12", 1, 3));
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662", 1, 3)); // non-ASCII digits
+
+        // EP: valid
+        assertTrue(ValidationUtil.isDigits("0", 1, 3));
+        assertTrue(ValidationUtil.isDigits("999", 1, 3));
+    }
+
+    @Test
+    public void isAlphanumericOr() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumericOr(null, "-", 1, 3));
+
+        // EP: wrong length
+        assertFalse(ValidationUtil.isAlphanumericOr("", "-", 1, 3));
+        assertFalse(ValidationUtil.isAlphanumericOr("abcd", "-", 1, 3));
+
+        // EP: other characters
+        assertFalse(ValidationUtil.isAlphanumericOr("a_b", "-", 1, 3));
+        assertFalse(ValidationUtil.isAlphanumericOr("\u00e9", "-", 1, 3)); // non-ASCII letter
+
+        // EP: valid
+        assertTrue(ValidationUtil.isAlphanumericOr("aZ9", "-", 1, 3));
+        assertTrue(ValidationUtil.isAlphanumericOr("a-b", "-", 1, 3));
+    }
+
+    @Test
+    public void parseTenths() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseTenths(null, 0, 300));
+
+        // EP: not a number
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("", 0, 300));
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("abc", 0, 300));
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths(".5", 0, 300));
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("5.", 0, 300));
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths(" 50", 0, 300));
+
+        // EP: sign, leading zeros or more than one decimal place
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("+50", 0, 300));
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("050", 0, 300));
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("50.25", 0, 300));
+
+        // EP: out of range
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("49.9", 50, 300)); // Boundary value
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("300.1", 50, 300)); // Boundary value
+        assertEquals(INVALID_TENTHS, ValidationUtil.parseTenths("99999999", 50, 300));
+
+        // EP: valid
+        assertEquals(500, ValidationUtil.parseTenths("50", 50, 300)); // Boundary value
+        assertEquals(3000, ValidationUtil.parseTenths("300.0", 50, 300)); // Boundary value
+        assertEquals(1755, ValidationUtil.parseTenths("175.5", 50, 300));
+        assertEquals(0, ValidationUtil.parseTenths("0", 0, 300));
+        assertEquals(5, ValidationUtil.parseTenths("0.5", 0, 300));
+    }
+
+    @Test
+    public void formatTenths() {
+        assertEquals("175.0", ValidationUtil.formatTenths(1750));
+        assertEquals("65.3", ValidationUtil.formatTenths(653));
+        assertEquals("0.5", ValidationUtil.formatTenths(5));
+    }
+
+    @Test
+    public void parseIsoDate() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseIsoDate(null));
+
+        // EP: wrong format
+        assertNull(ValidationUtil.parseIsoDate(""));
+        assertNull(ValidationUtil.parseIsoDate("2008-1-01"));
+        assertNull(ValidationUtil.parseIsoDate("01-01-2008"));
+        assertNull(ValidationUtil.parseIsoDate("2008/01/01"));
+        assertNull(ValidationUtil.parseIsoDate("2008-01-0a"));
+
+        // EP: not a calendar date
+        assertNull(ValidationUtil.parseIsoDate("2008-13-01"));
+        assertNull(ValidationUtil.parseIsoDate("2007-02-29"));
+
+        // EP: valid
+        assertEquals(LocalDate.of(2008, 2, 29), ValidationUtil.parseIsoDate("2008-02-29"));
+        assertEquals(LocalDate.of(-1, 1, 1), ValidationUtil.parseIsoDate("-0001-01-01"));
+    }
+}
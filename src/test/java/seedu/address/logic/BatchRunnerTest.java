@@ -0,0 +1,150 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.HEIGHT_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.HEIGHT_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.SCHOOL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SCHOOL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.WEIGHT_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.WEIGHT_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + DOB_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + SCHOOL_DESC_AMY + ROLE_DESC_AMY + HEIGHT_DESC_AMY + WEIGHT_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + DOB_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + SCHOOL_DESC_BOB + ROLE_DESC_BOB + HEIGHT_DESC_BOB + WEIGHT_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private StorageManager storage;
+    private ByteArrayOutputStream errors = new ByteArrayOutputStream();
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("relaycoach.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(model, storage, -1));
+    }
+
+    @Test
+    public void run_validScript_savesOnceAtEnd() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(model, storage, BatchRunner.SAVE_AT_END);
+        String summary = run(batchRunner, "# season setup\n" + ADD_AMY + "\n\n" + ADD_BOB + "\nlist\n");
+
+        assertEquals(3, batchRunner.getCommandCount());
+        assertEquals(0, batchRunner.getFailureCount());
+        assertEquals(1, batchRunner.getSaveCount());
+        assertTrue(summary.startsWith("Ran 3 command(s) in "));
+        assertEquals("", errors.toString(StandardCharsets.UTF_8));
+
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertEquals(2, saved.getPersonList().size());
+    }
+
+    @Test
+    public void run_failingCommands_reportsLineNumbersAndGoesOn() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(model, storage, BatchRunner.SAVE_AT_END);
+        run(batchRunner, "unknowncommand\n" + ADD_AMY + "\n" + ADD_AMY + "\n" + ADD_BOB + "\n");
+
+        assertEquals(4, batchRunner.getCommandCount());
+        assertEquals(2, batchRunner.getFailureCount());
+        String reported = errors.toString(StandardCharsets.UTF_8);
+        assertTrue(reported.contains(
+                String.format(BatchRunner.MESSAGE_LINE_ERROR, 1, Messages.MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(reported.contains(
+                String.format(BatchRunner.MESSAGE_LINE_ERROR, 3, AddCommand.MESSAGE_DUPLICATE_PERSON)));
+        assertEquals(2, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_reportsLineAndSavesChanges() throws Exception {
+        Model failingModel = new ModelManager() {
+            @Override
+            public boolean isPersonListEmpty() {
+                throw new IllegalStateException("dummy error");
+            }
+        };
+        BatchRunner batchRunner = new BatchRunner(failingModel, storage, BatchRunner.SAVE_AT_END);
+        run(batchRunner, ADD_AMY + "\nlist\n" + ADD_BOB + "\n");
+
+        assertEquals(3, batchRunner.getCommandCount());
+        assertEquals(1, batchRunner.getFailureCount());
+        assertTrue(errors.toString(StandardCharsets.UTF_8).contains(String.format(BatchRunner.MESSAGE_LINE_ERROR, 2,
+                String.format(BatchRunner.MESSAGE_UNEXPECTED_ERROR, new IllegalStateException("dummy error")))));
+        assertEquals(2, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(model, storage, 1);
+        run(batchRunner, ADD_AMY + "\nlist\n" + ADD_BOB + "\n");
+
+        // the list command changes nothing, so there is nothing to save after it or at the end
+        assertEquals(2, batchRunner.getSaveCount());
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(model, storage, BatchRunner.SAVE_AT_END);
+        run(batchRunner, ADD_AMY + "\nexit\n" + ADD_BOB + "\n");
+
+        assertEquals(2, batchRunner.getCommandCount());
+        assertEquals(1, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void run_undo_revertsPreviousCommand() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(model, storage, BatchRunner.SAVE_AT_END);
+        run(batchRunner, ADD_AMY + "\n" + ADD_BOB + "\nundo\n");
+
+        assertEquals(0, batchRunner.getFailureCount());
+        assertEquals(1, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    private String run(BatchRunner batchRunner, String script) throws Exception {
+        return batchRunner.run(new BufferedReader(new StringReader(script)),
+                new PrintStream(errors, true, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,172 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.HEIGHT_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SCHOOL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.WEIGHT_DESC_AMY;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandQueueTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+            + ADDRESS_DESC_AMY + DOB_DESC_AMY + SCHOOL_DESC_AMY + ROLE_DESC_AMY + HEIGHT_DESC_AMY + WEIGHT_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private CommandQueue commandQueue;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("relaycoach.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        commandQueue = new CommandQueue(new LogicManager(model, storage));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandQueue.shutdown();
+    }
+
+    @Test
+    public void submit_commands_executedInOrder() throws Exception {
+        // the delete only succeeds if the add before it has been executed
+        CompletableFuture<CommandResult> add = commandQueue.submit(ADD_AMY);
+        CompletableFuture<CommandResult> delete = commandQueue.submit(DeleteCommand.COMMAND_WORD + " 1");
+
+        add.get();
+        delete.get();
+        assertTrue(model.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void submit_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> result = commandQueue.submit("uicfhmowqewca");
+
+        ExecutionException thrown = assertThrows(ExecutionException.class, result::get);
+        assertTrue(thrown.getCause() instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, thrown.getCause().getMessage());
+
+        // a failed command does not stop the commands after it
+        commandQueue.submit(ADD_AMY).get();
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void submit_commandThrowsError_completesExceptionally() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("failing.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("failingPrefs.json"));
+        CommandQueue failingQueue = new CommandQueue(new LogicManager(model,
+                new StorageManager(addressBookStorage, userPrefsStorage)) {
+            @Override
+            public CommandResult execute(String commandText) {
+                throw new AssertionError("dummy error");
+            }
+        });
+        List<Integer> pendingCounts = new ArrayList<>();
+        failingQueue.setPendingCountHandler(() -> {
+            synchronized (pendingCounts) {
+                pendingCounts.add(failingQueue.getPendingCount());
+            }
+        });
+
+        try {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () ->
+                    failingQueue.submit(ListCommand.COMMAND_WORD).get(10, TimeUnit.SECONDS));
+            assertTrue(thrown.getCause() instanceof AssertionError);
+            assertEquals(0, failingQueue.getPendingCount());
+            synchronized (pendingCounts) {
+                assertEquals(List.of(1, 0), pendingCounts);
+            }
+
+            // the queue still executes the commands after the error
+            assertThrows(ExecutionException.class, () ->
+                    failingQueue.submit(ListCommand.COMMAND_WORD).get(10, TimeUnit.SECONDS));
+        } finally {
+            failingQueue.shutdown();
+        }
+    }
+
+    @Test
+    public void shutdownAsync_commandsSubmitted_completesAfterCommandsWithoutBlocking() throws Exception {
+        CompletableFuture<CommandResult> add = commandQueue.submit(ADD_AMY);
+        CompletableFuture<Void> drained = commandQueue.shutdownAsync();
+
+        drained.get(10, TimeUnit.SECONDS);
+        assertTrue(add.isDone());
+        assertEquals(1, model.getFilteredPersonList().size());
+
+        // commands submitted after the shutdown are rejected
+        ExecutionException thrown = assertThrows(ExecutionException.class, () ->
+                commandQueue.submit(ListCommand.COMMAND_WORD).get());
+        assertTrue(thrown.getCause() instanceof CommandException);
+        assertEquals(CommandQueue.MESSAGE_SHUT_DOWN, thrown.getCause().getMessage());
+        assertEquals(0, commandQueue.getPendingCount());
+
+        // shutting down again completes too
+        commandQueue.shutdownAsync().get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void submit_afterCommandHandler_runsBeforeResult() throws Exception {
+        List<Integer> personCounts = new ArrayList<>();
+        commandQueue.setAfterCommandHandler(() -> personCounts.add(model.getFilteredPersonList().size()));
+
+        commandQueue.submit(ADD_AMY).get();
+        assertEquals(List.of(1), personCounts);
+    }
+
+    @Test
+    public void getPendingCount_afterCommandsComplete_zero() throws Exception {
+        List<Integer> pendingCounts = new ArrayList<>();
+        commandQueue.setPendingCountHandler(() -> {
+            synchronized (pendingCounts) {
+                pendingCounts.add(commandQueue.getPendingCount());
+            }
+        });
+
+        commandQueue.submit(ADD_AMY);
+        commandQueue.submit(ListCommand.COMMAND_WORD).get();
+
+        assertEquals(0, commandQueue.getPendingCount());
+        synchronized (pendingCounts) {
+            assertEquals(4, pendingCounts.size());
+        }
+    }
+}
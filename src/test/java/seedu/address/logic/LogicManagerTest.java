@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -25,8 +27,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -96,6 +102,35 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_stats_showsTimedCommands() throws Exception {
+        assertCommandException("delete 9", MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        String stats = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(stats.contains("\ndelete (1 run(s))\n  parse: "));
+        assertTrue(stats.contains("\nlist (1 run(s))\n  parse: "));
+        assertTrue(stats.contains("\n  filter: "));
+        assertFalse(stats.contains("save: ")); // neither command changed the address book
+    }
+
+    @Test
+    public void execute_undo_revertsLatestCommandOnly() throws Exception {
+        model.addPerson(new PersonBuilder(AMY).withTags().build());
+        model.commitAddressBook();
+        logic.execute(ClearCommand.COMMAND_WORD);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE);
+
+        logic.execute(RedoCommand.COMMAND_WORD);
+        logic.execute(RedoCommand.COMMAND_WORD);
+        assertEquals(expectedModel, model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
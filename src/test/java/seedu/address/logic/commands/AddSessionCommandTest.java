@@ -21,10 +21,12 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.team.ScheduledSession;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.TeamName;
 import seedu.address.model.team.session.Location;
@@ -110,7 +112,7 @@ public class AddSessionCommandTest {
     }
 
     @Test
-    public void execute_identicalSessionInList_throwsDuplicateFromLoop() {
+    public void execute_identicalSessionInList_throwsOverlapFromOverlapCheck() {
         Session existing = makeSession("2025-10-21 0700", "2025-10-21 0800", "Track");
         Team team = new TeamDoubleWithExistingSessionNoHas("Alpha", existing);
         ModelStubAcceptingSessionAdded model = new ModelStubAcceptingSessionAdded();
@@ -120,7 +122,7 @@ public class AddSessionCommandTest {
         AddSessionCommand cmd = new AddSessionCommand(Index.fromOneBased(1), identical);
 
         CommandException ex = assertThrows(CommandException.class, () -> cmd.execute(model));
-        assertEquals(AddSessionCommand.MESSAGE_DUPLICATE_INPUT, ex.getMessage());
+        assertEquals(AddSessionCommand.MESSAGE_OVERLAPPING_SESSION, ex.getMessage());
     }
 
     @Test
@@ -194,10 +196,10 @@ public class AddSessionCommandTest {
     private static Team makeTeam(String name) {
         TeamName tn = new TeamName(name);
         Set<Person> members = new HashSet<>();
-        members.add(new PersonBuilder().withName("A").build());
-        members.add(new PersonBuilder().withName("B").build());
-        members.add(new PersonBuilder().withName("C").build());
-        members.add(new PersonBuilder().withName("D").build());
+        members.add(new PersonBuilder().withId(1).withName("A").build());
+        members.add(new PersonBuilder().withId(2).withName("B").build());
+        members.add(new PersonBuilder().withId(3).withName("C").build());
+        members.add(new PersonBuilder().withId(4).withName("D").build());
         return new Team(tn, members);
     }
 
@@ -241,6 +243,11 @@ public class AddSessionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -251,6 +258,41 @@ public class AddSessionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<AddressBookChange> takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long takeFilterNanos() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -326,6 +368,21 @@ public class AddSessionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getTeamMembers(Team team) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledSession> getSessionsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledSession> getSessionsAt(Location location, LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addSessionToTeam(Team team, Session session) {
             throw new AssertionError("This method should not be called.");
@@ -359,31 +416,26 @@ public class AddSessionCommandTest {
     }
 
     /**
-     * Test-double Team that exposes one existing session via getSessions() to trigger overlap detection,
+     * Test-double Team that has one existing session to trigger overlap detection,
      * while returning false for hasSession() unless the session is identical.
      */
     private static class TeamDoubleWithExistingSession extends Team {
         private final java.util.Set<Session> sessions = new java.util.HashSet<>();
 
         TeamDoubleWithExistingSession(String name, Session existing) {
-            super(new TeamName(name), fourMembers());
+            super(new TeamName(name), fourMembers(), Set.of(existing));
             sessions.add(existing);
         }
 
         private static Set<Person> fourMembers() {
             Set<Person> m = new HashSet<>();
-            m.add(new PersonBuilder().withName("A").build());
-            m.add(new PersonBuilder().withName("B").build());
-            m.add(new PersonBuilder().withName("C").build());
-            m.add(new PersonBuilder().withName("D").build());
+            m.add(new PersonBuilder().withId(1).withName("A").build());
+            m.add(new PersonBuilder().withId(2).withName("B").build());
+            m.add(new PersonBuilder().withId(3).withName("C").build());
+            m.add(new PersonBuilder().withId(4).withName("D").build());
             return m;
         }
 
-        @Override
-        public java.util.Set<Session> getSessions() {
-            return sessions;
-        }
-
         @Override
         public boolean hasSession(Session s) {
             // Treat as duplicate only if identical (start, end, location)
@@ -395,34 +447,26 @@ public class AddSessionCommandTest {
     }
 
     /**
-     * Team double that exposes an existing session via getSessions(), but always returns false for hasSession().
-     * This allows us to assert the duplicate detection originates from the loop's isSameSession() check.
+     * Team double that has an existing session, but always returns false for hasSession().
+     * This allows us to assert what the overlap check reports when hasSession() does not catch a duplicate.
      */
     private static class TeamDoubleWithExistingSessionNoHas extends Team {
-        private final java.util.Set<Session> sessions = new java.util.HashSet<>();
-
         TeamDoubleWithExistingSessionNoHas(String name, Session existing) {
-            super(new TeamName(name), fourMembers());
-            sessions.add(existing);
+            super(new TeamName(name), fourMembers(), Set.of(existing));
         }
 
         private static Set<Person> fourMembers() {
             Set<Person> m = new HashSet<>();
-            m.add(new PersonBuilder().withName("A").build());
-            m.add(new PersonBuilder().withName("B").build());
-            m.add(new PersonBuilder().withName("C").build());
-            m.add(new PersonBuilder().withName("D").build());
+            m.add(new PersonBuilder().withId(1).withName("A").build());
+            m.add(new PersonBuilder().withId(2).withName("B").build());
+            m.add(new PersonBuilder().withId(3).withName("C").build());
+            m.add(new PersonBuilder().withId(4).withName("D").build());
             return m;
         }
 
-        @Override
-        public java.util.Set<Session> getSessions() {
-            return sessions;
-        }
-
         @Override
         public boolean hasSession(Session s) {
-            return false; // Force the command to rely on the loop's duplicate/overlap checks
+            return false; // Force the command to rely on the overlap check
         }
     }
 
@@ -437,10 +481,10 @@ public class AddSessionCommandTest {
 
         private static Set<Person> fourMembers() {
             Set<Person> m = new HashSet<>();
-            m.add(new PersonBuilder().withName("A").build());
-            m.add(new PersonBuilder().withName("B").build());
-            m.add(new PersonBuilder().withName("C").build());
-            m.add(new PersonBuilder().withName("D").build());
+            m.add(new PersonBuilder().withId(1).withName("A").build());
+            m.add(new PersonBuilder().withId(2).withName("B").build());
+            m.add(new PersonBuilder().withId(3).withName("C").build());
+            m.add(new PersonBuilder().withId(4).withName("D").build());
             return m;
         }
 
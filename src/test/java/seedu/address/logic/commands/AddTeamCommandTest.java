@@ -10,11 +10,13 @@ import static seedu.address.logic.commands.AddTeamCommand.MESSAGE_INVALID_TEAM_S
 import static seedu.address.logic.commands.AddTeamCommand.MESSAGE_MEMBER_ALREADY_IN_TEAM;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,12 +27,15 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.team.ScheduledSession;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
 import seedu.address.model.team.session.Session;
 import seedu.address.testutil.PersonBuilder;
 
@@ -70,10 +75,10 @@ public class AddTeamCommandTest {
     public void execute_validInputs_addSuccessful() throws Exception {
         // Prepare model with 4 persons and no teams
         ModelStubAcceptingTeamAdded model = new ModelStubAcceptingTeamAdded();
-        Person p1 = new PersonBuilder().withName("A").build();
-        Person p2 = new PersonBuilder().withName("B").build();
-        Person p3 = new PersonBuilder().withName("C").build();
-        Person p4 = new PersonBuilder().withName("D").build();
+        Person p1 = new PersonBuilder().withId(1).withName("A").build();
+        Person p2 = new PersonBuilder().withId(2).withName("B").build();
+        Person p3 = new PersonBuilder().withId(3).withName("C").build();
+        Person p4 = new PersonBuilder().withId(4).withName("D").build();
         model.addPersonsToFilteredList(p1, p2, p3, p4);
 
         TeamName name = new TeamName("Alpha");
@@ -82,7 +87,8 @@ public class AddTeamCommandTest {
 
         AddTeamCommand command = new AddTeamCommand(name, memberIndexes);
         Team expectedTeam = new Team(name, Set.of(p1, p2, p3, p4));
-        String expectedMessage = String.format(AddTeamCommand.MESSAGE_SUCCESS, Messages.format(expectedTeam));
+        String expectedMessage = String.format(AddTeamCommand.MESSAGE_SUCCESS, Messages.format(expectedTeam,
+                List.of(p1, p2, p3, p4)));
 
         CommandResult result = command.execute(model);
 
@@ -100,10 +106,10 @@ public class AddTeamCommandTest {
         TeamName name = new TeamName("Alpha");
         ModelStubWithExistingTeamName model = new ModelStubWithExistingTeamName(name);
 
-        Person p1 = new PersonBuilder().withName("A").build();
-        Person p2 = new PersonBuilder().withName("B").build();
-        Person p3 = new PersonBuilder().withName("C").build();
-        Person p4 = new PersonBuilder().withName("D").build();
+        Person p1 = new PersonBuilder().withId(1).withName("A").build();
+        Person p2 = new PersonBuilder().withId(2).withName("B").build();
+        Person p3 = new PersonBuilder().withId(3).withName("C").build();
+        Person p4 = new PersonBuilder().withId(4).withName("D").build();
         model.addPersonsToFilteredList(p1, p2, p3, p4);
 
         Set<Index> memberIndexes = Set.of(Index.fromOneBased(1), Index.fromOneBased(2),
@@ -117,7 +123,7 @@ public class AddTeamCommandTest {
     @Test
     public void execute_invalidIndex_throwsCommandException() {
         ModelStubAcceptingTeamAdded model = new ModelStubAcceptingTeamAdded();
-        Person p1 = new PersonBuilder().withName("A").build();
+        Person p1 = new PersonBuilder().withId(1).withName("A").build();
         model.addPersonsToFilteredList(p1);
 
         TeamName name = new TeamName("Alpha");
@@ -133,9 +139,9 @@ public class AddTeamCommandTest {
     @Test
     public void execute_invalidTeamSize_throwsCommandException() {
         ModelStubAcceptingTeamAdded model = new ModelStubAcceptingTeamAdded();
-        Person p1 = new PersonBuilder().withName("A").build();
-        Person p2 = new PersonBuilder().withName("B").build();
-        Person p3 = new PersonBuilder().withName("C").build();
+        Person p1 = new PersonBuilder().withId(1).withName("A").build();
+        Person p2 = new PersonBuilder().withId(2).withName("B").build();
+        Person p3 = new PersonBuilder().withId(3).withName("C").build();
         model.addPersonsToFilteredList(p1, p2, p3);
 
         TeamName name = new TeamName("Alpha");
@@ -149,10 +155,10 @@ public class AddTeamCommandTest {
     @Test
     public void execute_memberAlreadyInTeam_throwsCommandException() {
         ModelStubWithMemberAlreadyInTeam model = new ModelStubWithMemberAlreadyInTeam();
-        Person p1 = new PersonBuilder().withName("ExistingMember").build();
-        Person p2 = new PersonBuilder().withName("A").build();
-        Person p3 = new PersonBuilder().withName("B").build();
-        Person p4 = new PersonBuilder().withName("C").build();
+        Person p1 = new PersonBuilder().withId(5).withName("ExistingMember").build();
+        Person p2 = new PersonBuilder().withId(1).withName("A").build();
+        Person p3 = new PersonBuilder().withId(2).withName("B").build();
+        Person p4 = new PersonBuilder().withId(3).withName("C").build();
         model.addPersonsToFilteredList(p1, p2, p3, p4);
         model.seedTeamWithMembers(Set.of(p1)); // existing team with p1
 
@@ -245,6 +251,11 @@ public class AddTeamCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -255,6 +266,41 @@ public class AddTeamCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<AddressBookChange> takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long takeFilterNanos() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -330,6 +376,21 @@ public class AddTeamCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getTeamMembers(Team team) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledSession> getSessionsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<ScheduledSession> getSessionsAt(Location location, LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addSessionToTeam(Team team, Session session) {
             throw new AssertionError("This method should not be called.");
@@ -394,6 +455,16 @@ public class AddTeamCommandTest {
             return FXCollections.observableArrayList(existingTeams);
         }
 
+        @Override
+        public Team getTeamOfPerson(Person person) {
+            return existingTeams.stream().filter(team -> team.hasMember(person)).findFirst().orElse(null);
+        }
+
+        @Override
+        public List<Person> getTeamMembers(Team team) {
+            return persons.stream().filter(team::hasMember).collect(Collectors.toList());
+        }
+
         @Override
         public boolean hasTeam(Team team) {
             // no duplicate team names in this stub
@@ -421,7 +492,7 @@ public class AddTeamCommandTest {
             Set<Person> four = new HashSet<>(members);
             String counter = "A";
             while (four.size() < Team.TEAM_SIZE) {
-                four.add(new PersonBuilder().withName("Pad" + counter).build());
+                four.add(new PersonBuilder().withId(100 + four.size()).withName("Pad" + counter).build());
                 counter = nextAlpha(counter);
             }
             existingTeams.add(new Team(new TeamName("Existing"), four));
@@ -449,6 +520,11 @@ public class AddTeamCommandTest {
             return FXCollections.observableArrayList(existingTeams);
         }
 
+        @Override
+        public Team getTeamOfPerson(Person person) {
+            return existingTeams.stream().filter(team -> team.hasMember(person)).findFirst().orElse(null);
+        }
+
         @Override
         public boolean hasTeam(Team team) {
             // No duplicate by name here; conflict will be hit via existingTeams membership check
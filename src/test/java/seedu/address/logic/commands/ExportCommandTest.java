@@ -0,0 +1,179 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Kind;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+
+public class ExportCommandTest {
+
+    private static final Session TUESDAY_TRACK = new Session(new Location("Track, Lane 1; North"),
+            LocalDateTime.of(2025, 10, 21, 7, 0), LocalDateTime.of(2025, 10, 21, 8, 30));
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private Team relay;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = getTypicalAddressBook();
+        relay = new Team(new TeamName("Relay"), Set.of(ALICE, BENSON, CARL, DANIEL));
+        addressBook.addTeam(relay);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_persons_canBeImportedAgain() throws Exception {
+        Path filePath = temporaryFolder.resolve("athletes.csv");
+
+        CommandResult result = new ExportCommand(Kind.PERSONS, filePath).execute(model);
+
+        int personCount = model.getAddressBook().getPersonList().size();
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, personCount, "athlete(s)", filePath),
+                result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(String.join(",", ExportCommand.PERSON_COLUMNS), lines.get(0));
+        assertEquals(personCount + 1, lines.size());
+
+        Model importedModel = new ModelManager();
+        new ImportCommand(filePath).execute(importedModel);
+        List<Person> imported = importedModel.getAddressBook().getPersonList();
+        assertEquals(personCount, imported.size());
+        for (Person person : model.getAddressBook().getPersonList()) {
+            Person importedPerson = imported.stream().filter(person::isSamePerson).findFirst().get();
+            assertEquals(person.getAddress(), importedPerson.getAddress());
+            assertEquals(person.getTags(), importedPerson.getTags());
+        }
+    }
+
+    @Test
+    public void execute_teams_writesRowPerMember() throws Exception {
+        Path filePath = temporaryFolder.resolve("teams.csv");
+
+        CommandResult result = new ExportCommand(Kind.TEAMS, filePath).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, "team(s)", filePath),
+                result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        assertEquals(String.join(",", ExportCommand.TEAM_COLUMNS), lines.get(0));
+        assertEquals(Team.TEAM_SIZE + 1, lines.size());
+        List<Person> members = model.getTeamMembers(relay);
+        for (int i = 0; i < members.size(); i++) {
+            assertTrue(lines.get(i + 1).startsWith("Relay," + members.get(i).getName() + ","));
+        }
+    }
+
+    @Test
+    public void execute_sessions_writesCalendar() throws Exception {
+        model.addSessionToTeam(relay, TUESDAY_TRACK);
+        Path filePath = temporaryFolder.resolve("sessions.ics");
+
+        CommandResult result = new ExportCommand(Kind.SESSIONS, filePath).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, "session(s)", filePath),
+                result.getFeedbackToUser());
+        String calendar = Files.readString(filePath, StandardCharsets.UTF_8);
+        assertTrue(calendar.startsWith(
+                "BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:" + ExportCommand.PRODUCT_ID + "\r\n"));
+        assertTrue(calendar.contains("\r\nUID:" + ExportCommand.getUid("Relay", TUESDAY_TRACK) + "\r\n"));
+        assertTrue(calendar.contains("\r\nDTSTART:20251021T070000\r\nDTEND:20251021T083000\r\n"));
+        assertTrue(calendar.contains("\r\nSUMMARY:Relay\r\nLOCATION:Track\\, Lane 1\\; North\r\nEND:VEVENT\r\n"));
+        assertTrue(calendar.endsWith("END:VCALENDAR\r\n"));
+    }
+
+    @Test
+    public void execute_noSessions_writesEmptyCalendar() throws Exception {
+        Path filePath = temporaryFolder.resolve("sessions.ics");
+
+        new ExportCommand(Kind.SESSIONS, filePath).execute(model);
+
+        assertFalse(Files.readString(filePath, StandardCharsets.UTF_8).contains("VEVENT"));
+    }
+
+    @Test
+    public void execute_existingFile_replacesFile() throws Exception {
+        Path filePath = temporaryFolder.resolve("teams.csv");
+        Files.writeString(filePath, "x".repeat(10_000), StandardCharsets.UTF_8);
+
+        new ExportCommand(Kind.TEAMS, filePath).execute(model);
+
+        assertEquals(Team.TEAM_SIZE + 1, Files.readAllLines(filePath, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_directoryPath_throwsCommandException() throws IOException {
+        Path filePath = Files.createDirectory(temporaryFolder.resolve("folder"));
+        assertThrows(CommandException.class, () -> new ExportCommand(Kind.PERSONS, filePath).execute(model));
+    }
+
+    @Test
+    public void getUid_sameSession_sameUid() {
+        Session sameSession = new Session(new Location("Track, Lane 1; North"),
+                TUESDAY_TRACK.getStartDate(), TUESDAY_TRACK.getEndDate());
+        assertEquals(ExportCommand.getUid("Relay", TUESDAY_TRACK), ExportCommand.getUid("Relay", sameSession));
+        assertFalse(ExportCommand.getUid("Relay", TUESDAY_TRACK).equals(ExportCommand.getUid("Baton", TUESDAY_TRACK)));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Kind.PERSONS, Paths.get("first.csv"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Kind.PERSONS, Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different kind -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(Kind.TEAMS, Paths.get("first.csv"))));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(Kind.PERSONS, Paths.get("second.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("sessions.ics");
+        ExportCommand exportCommand = new ExportCommand(Kind.SESSIONS, filePath);
+        String expected = ExportCommand.class.getCanonicalName() + "{kind=sessions, filePath=" + filePath + "}";
+        assertEquals(expected, exportCommand.toString());
+    }
+}
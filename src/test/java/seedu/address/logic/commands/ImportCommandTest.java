@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,dob,phone,email,address,school,role,height,weight,tags";
+    private static final String AMY_ROW = "Amy Bee,2000-10-10,11111111,amy@example.com,\"Block 312, Amy Street 1\","
+            + "Anderson Secondary,anchor,165,55,friend";
+    private static final String BOB_ROW = "Bob Choo,1999-11-11,22222222,bob@example.com,\"Block 123, Bobby Street 3\","
+            + "Barker Secondary,member,170,60,husband friend";
+    private static final String ALICE_ROW = "Alice Pauline,2000-01-01,94351253,alice@example.com,x,Jurong High,"
+            + "student,160,50,";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs());
+
+    @Test
+    public void execute_validRows_addsAllPersons() throws Exception {
+        Path filePath = writeCsv("intake.csv", HEADER, AMY_ROW, "", BOB_ROW);
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(model.hasPerson(BOB));
+        assertEquals(BOB.getTags(), model.getAddressBook().getPersonList().get(2).getTags());
+        assertFalse(Files.exists(ImportCommand.getErrorReportPath(filePath)));
+    }
+
+    @Test
+    public void execute_columnsInAnyOrder_addsPersons() throws Exception {
+        Path filePath = writeCsv("intake.csv", "\uFEFFWeight,Height,Role,School,Address,Email,Phone,DOB,Name",
+                "55,165,anchor,Anderson Secondary,Amy Street,amy@example.com,11111111,2000-10-10,Amy Bee");
+
+        new ImportCommand(filePath).execute(model);
+
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_upperCaseHeaderInTurkishLocale_addsPersons() throws Exception {
+        Path filePath = writeCsv("INTAKE.CSV", HEADER.toUpperCase(Locale.ROOT), AMY_ROW);
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            new ImportCommand(filePath).execute(model);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectsRowsToErrorReport() throws Exception {
+        Path filePath = writeCsv("intake.csv", HEADER,
+                AMY_ROW,
+                ALICE_ROW, // already in the address book
+                AMY_ROW.replace("11111111", "12"), // same athlete as row 2, and an invalid phone
+                BOB_ROW.replace("Barker Secondary", "Barker"),
+                BOB_ROW, // same athlete as row 5
+                "too,few,fields");
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+
+        Path errorReportPath = temporaryFolder.resolve("intake" + ImportCommand.ERROR_REPORT_SUFFIX);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 4, errorReportPath),
+                result.getFeedbackToUser());
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+
+        try (BufferedReader reader = Files.newBufferedReader(errorReportPath, StandardCharsets.UTF_8)) {
+            assertEquals("row", CsvUtil.readRecord(reader).get(0));
+            assertRejectedRow(reader, 3, AddCommand.MESSAGE_DUPLICATE_PERSON);
+            assertRejectedRow(reader, 4, Phone.MESSAGE_CONSTRAINTS);
+            assertRejectedRow(reader, 6, String.format(ImportCommand.MESSAGE_DUPLICATE_ROW, 5));
+            assertRejectedRow(reader, 7, String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 10, 3));
+        }
+    }
+
+    @Test
+    public void execute_missingColumns_throwsCommandException() throws Exception {
+        Path filePath = writeCsv("intake.csv", "name,dob,phone,email,address,school,role", AMY_ROW);
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMNS, "height, weight"));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path filePath = writeCsv("intake.csv");
+        assertCommandFailure(new ImportCommand(filePath), model, ImportCommand.MESSAGE_EMPTY_FILE);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_READ_ERROR, filePath, filePath));
+    }
+
+    @Test
+    public void getErrorReportPath() {
+        assertEquals(Paths.get("data", "intake.errors.csv"), ImportCommand.getErrorReportPath(
+                Paths.get("data", "intake.CSV")));
+        assertEquals(Paths.get("intake.errors.csv"), ImportCommand.getErrorReportPath(Paths.get("intake")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("intake.csv");
+        ImportCommand importCommand = new ImportCommand(filePath);
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+
+    private Path writeCsv(String fileName, String... lines) throws IOException {
+        Path filePath = temporaryFolder.resolve(fileName);
+        Files.write(filePath, List.of(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+
+    private static void assertRejectedRow(BufferedReader reader, int rowNumber, String error) throws IOException {
+        List<String> record = CsvUtil.readRecord(reader);
+        assertEquals(String.valueOf(rowNumber), record.get(0));
+        assertEquals(error, record.get(1));
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.team.ScheduledSession;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListSessionsCommand}.
+ */
+public class ListSessionsCommandTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 20, 0, 0);
+    private static final Session TUESDAY_TRACK = new Session(new Location("Track"),
+            LocalDateTime.of(2025, 10, 21, 7, 0), LocalDateTime.of(2025, 10, 21, 8, 0));
+
+    private Model model;
+    private Team relay;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = getTypicalAddressBook();
+        relay = new Team(new TeamName("Relay"), Set.of(ALICE, BENSON, CARL, DANIEL));
+        addressBook.addTeam(relay);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_noSessions_showsNoSessionsMessage() {
+        String expectedMessage = String.format(ListSessionsCommand.MESSAGE_NO_SESSIONS,
+                Messages.format(MONDAY), Messages.format(MONDAY.plusWeeks(1)));
+        assertCommandSuccess(new ListSessionsCommand(MONDAY, MONDAY.plusWeeks(1)), model,
+                new CommandResult(expectedMessage, false, false, true), model);
+    }
+
+    @Test
+    public void execute_sessionAdded_listed() {
+        model.addSessionToTeam(relay, TUESDAY_TRACK);
+
+        List<ScheduledSession> expectedSessions = List.of(new ScheduledSession(relay.getName(), TUESDAY_TRACK));
+        String expectedMessage = String.format(ListSessionsCommand.MESSAGE_SUCCESS, 1, Messages.format(MONDAY),
+                Messages.format(MONDAY.plusWeeks(1)), Messages.format(expectedSessions));
+        assertCommandSuccess(new ListSessionsCommand(MONDAY, MONDAY.plusWeeks(1)), model,
+                new CommandResult(expectedMessage, false, false, true), model);
+    }
+
+    @Test
+    public void execute_sessionDeleted_notListed() {
+        model.addSessionToTeam(relay, TUESDAY_TRACK);
+        model.deleteSession(model.getFilteredTeamList().get(0), TUESDAY_TRACK);
+
+        String expectedMessage = String.format(ListSessionsCommand.MESSAGE_NO_SESSIONS,
+                Messages.format(MONDAY), Messages.format(MONDAY.plusWeeks(1)));
+        assertCommandSuccess(new ListSessionsCommand(MONDAY, MONDAY.plusWeeks(1)), model,
+                new CommandResult(expectedMessage, false, false, true), model);
+    }
+
+    @Test
+    public void equals() {
+        ListSessionsCommand thisWeek = new ListSessionsCommand(MONDAY, MONDAY.plusWeeks(1));
+
+        assertTrue(thisWeek.equals(thisWeek));
+        assertTrue(thisWeek.equals(new ListSessionsCommand(MONDAY, MONDAY.plusWeeks(1))));
+        assertFalse(thisWeek.equals(new ListSessionsCommand(MONDAY, MONDAY.plusDays(1))));
+        assertFalse(thisWeek.equals(null));
+        assertFalse(thisWeek.equals(1));
+    }
+}
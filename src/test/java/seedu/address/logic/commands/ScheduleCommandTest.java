@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.ScheduledSession;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ScheduleCommand}.
+ */
+public class ScheduleCommandTest {
+
+    private static final Location TRACK = new Location("Track");
+    private static final LocalDateTime SEVEN = LocalDateTime.of(2025, 10, 21, 7, 0);
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 10, 21, 9, 0);
+
+    private static final Session RELAY_TRACK = new Session(TRACK, SEVEN, SEVEN.plusHours(1));
+    private static final Session SPRINT_TRACK = new Session(TRACK, SEVEN.plusMinutes(30), NINE);
+    private static final Session SPRINT_GYM = new Session(new Location("Gym"), SEVEN, NINE);
+
+    private Model model;
+    private Team relay;
+    private Team sprint;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person extra = new PersonBuilder().withId(20).withName("Extra Runner").build();
+        addressBook.addPerson(extra);
+        relay = new Team(new TeamName("Relay"), Set.of(ALICE, BENSON, CARL, DANIEL), Set.of(RELAY_TRACK));
+        sprint = new Team(new TeamName("Sprint"), Set.of(ELLE, FIONA, GEORGE, extra),
+                Set.of(SPRINT_TRACK, SPRINT_GYM));
+        addressBook.addTeam(relay);
+        addressBook.addTeam(sprint);
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_locationBooked_listsBookings() {
+        List<ScheduledSession> expectedSessions = List.of(new ScheduledSession(relay.getName(), RELAY_TRACK),
+                new ScheduledSession(sprint.getName(), SPRINT_TRACK));
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_SUCCESS, 2, TRACK, Messages.format(SEVEN),
+                Messages.format(NINE), Messages.format(expectedSessions));
+        assertCommandSuccess(new ScheduleCommand(TRACK, SEVEN, NINE), model,
+                new CommandResult(expectedMessage, false, false, true), model);
+    }
+
+    @Test
+    public void execute_locationFree_showsFreeMessage() {
+        String expectedMessage = String.format(ScheduleCommand.MESSAGE_NO_SESSIONS, TRACK,
+                Messages.format(NINE), Messages.format(NINE.plusHours(1)));
+        assertCommandSuccess(new ScheduleCommand(TRACK, NINE, NINE.plusHours(1)), model,
+                new CommandResult(expectedMessage, false, false, true), model);
+    }
+
+    @Test
+    public void equals() {
+        ScheduleCommand trackCommand = new ScheduleCommand(TRACK, SEVEN, NINE);
+
+        assertTrue(trackCommand.equals(trackCommand));
+        assertTrue(trackCommand.equals(new ScheduleCommand(new Location("TRACK"), SEVEN, NINE)));
+        assertFalse(trackCommand.equals(new ScheduleCommand(new Location("Gym"), SEVEN, NINE)));
+        assertFalse(trackCommand.equals(new ScheduleCommand(TRACK, SEVEN, NINE.plusHours(1))));
+        assertFalse(trackCommand.equals(null));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandStats;
+import seedu.address.logic.CommandStats.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_noCommands_showsNoCommands() {
+        assertCommandSuccess(new StatsCommand(new CommandStats()), model, CommandStats.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_recordedCommands_showsPercentiles() {
+        CommandStats commandStats = new CommandStats();
+        commandStats.record("list", Phase.PARSE, TimeUnit.MICROSECONDS.toNanos(20));
+        commandStats.record("list", Phase.EXECUTE, TimeUnit.MICROSECONDS.toNanos(1500));
+        commandStats.record("add", Phase.PARSE, TimeUnit.MICROSECONDS.toNanos(40));
+
+        String expectedMessage = CommandStats.MESSAGE_HEADER
+                + "\nadd (1 run(s))"
+                + "\n  parse: 0.040 / 0.040 / 0.040 / 0.040"
+                + "\nlist (1 run(s))"
+                + "\n  parse: 0.020 / 0.020 / 0.020 / 0.020"
+                + "\n  execute: 1.500 / 1.500 / 1.500 / 1.500";
+        assertCommandSuccess(new StatsCommand(commandStats), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandStats commandStats = new CommandStats();
+        StatsCommand statsCommand = new StatsCommand(commandStats);
+
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(commandStats)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStats())));
+        assertFalse(statsCommand.equals(null));
+        assertFalse(statsCommand.equals(1));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -138,6 +139,36 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixBetweenBrackets_notRecognized() throws ParseException {
+        String argsString = "n/<Ravi s/o Kumar> p/ <a p/b> s/x";
+        Prefix nSlash = new Prefix("n/");
+        Prefix sSlash = new Prefix("s/");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + argsString, nSlash, pSlash, sSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, nSlash, "Ravi s/o Kumar");
+        assertArgumentPresent(argMultimap, pSlash, "a p/b");
+        assertArgumentPresent(argMultimap, sSlash, "x");
+
+        // brackets are removed after the value is trimmed
+        argMultimap = ArgumentTokenizer.tokenize(" p/< a >", pSlash);
+        assertArgumentPresent(argMultimap, pSlash, " a ");
+    }
+
+    @Test
+    public void tokenize_whitespaceInValue_collapsedToSingleSpace() throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" p/a \t\n b  c", pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "a b c");
+    }
+
+    @Test
+    public void tokenize_unmatchedBrackets_throwsParseException() {
+        assertThrows(ParseException.class, ArgumentTokenizer.MESSAGE_UNMATCHED_BRACKETS, () ->
+                ArgumentTokenizer.tokenize(" p/<a b", pSlash));
+        assertThrows(ParseException.class, ArgumentTokenizer.MESSAGE_UNMATCHED_BRACKETS, () ->
+                ArgumentTokenizer.tokenize(" p/a b>", pSlash));
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -6,13 +6,20 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.FieldInRangePredicate;
+import seedu.address.model.person.FuzzyKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesAllPredicate;
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.model.person.PersonSearchIndex.NumericField;
 import seedu.address.model.person.SchoolContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
@@ -45,6 +52,23 @@ public class FindCommandParserTest {
 
     }
 
+    @Test
+    public void parse_fuzzyPredicates_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new FuzzyKeywordsPredicate(Field.NAME,
+                Arrays.asList("jonh", "Doe")));
+        assertParseSuccess(parser, "find n~/jonh Doe", expectedFindCommand);
+
+        // exact and fuzzy predicates combined
+        expectedFindCommand = new FindCommand(new PersonMatchesAllPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice")),
+                new FuzzyKeywordsPredicate(Field.SCHOOL, Arrays.asList("Jurnog")))));
+        assertParseSuccess(parser, "find s~/Jurnog n/Alice", expectedFindCommand);
+
+        // duplicate fuzzy prefix
+        assertParseFailure(parser, "find n~/jonh n~/doe",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_NAME_FUZZY));
+    }
+
     @Test
     public void parse_combinedNameAndSchoolPredicates_matchesCorrectPersons() throws Exception {
         // Parse the command
@@ -70,5 +94,48 @@ public class FindCommandParserTest {
 
     }
 
+    @Test
+    public void parse_rangePredicates_returnsFindCommand() {
+        assertParseSuccess(parser, "find h/170-185",
+                new FindCommand(new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850)));
+
+        // single value, with a decimal place
+        assertParseSuccess(parser, "find w/62.5",
+                new FindCommand(new FieldInRangePredicate(NumericField.WEIGHT, 625, 625)));
+
+        // years stand for all of their days
+        assertParseSuccess(parser, "find d/2008-2010", new FindCommand(new FieldInRangePredicate(NumericField.DOB,
+                epochDay("2008-01-01"), epochDay("2010-12-31"))));
+        assertParseSuccess(parser, "find d/2008-06-01-2009-05-31", new FindCommand(new FieldInRangePredicate(
+                NumericField.DOB, epochDay("2008-06-01"), epochDay("2009-05-31"))));
+
+        // range and keyword predicates combined
+        FindCommand expectedFindCommand = new FindCommand(new PersonMatchesAllPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice")),
+                new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850),
+                new FieldInRangePredicate(NumericField.DOB, epochDay("2008-01-01"), epochDay("2008-12-31")))));
+        assertParseSuccess(parser, "find d/2008 h/170 - 185 n/Alice", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, "find h/185-170", FindCommand.MESSAGE_INVALID_RANGE); // start after end
+        assertParseFailure(parser, "find h/170-", FindCommand.MESSAGE_INVALID_RANGE); // missing end
+        assertParseFailure(parser, "find h/170-180-190", FindCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "find h/20", FindCommand.MESSAGE_INVALID_RANGE); // below minimum height
+        assertParseFailure(parser, "find w/heavy", FindCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "find d/2008-06", FindCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "find d/2008-02-30", FindCommand.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, "find d/2010-2008", FindCommand.MESSAGE_INVALID_RANGE);
+
+        // duplicate range prefix
+        assertParseFailure(parser, "find h/170 h/180",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_HEIGHT));
+    }
+
+    private static int epochDay(String date) {
+        return (int) LocalDate.parse(date).toEpochDay();
+    }
+
     // to add tests for parsing multiple args at once i.e. school and name
 }
@@ -255,6 +255,12 @@ public class ParserUtilTest {
         assertEquals(expected, ParserUtil.parseWeight(VALID_WEIGHT));
     }
 
+    @Test
+    public void parseWeight_validValueAbove119_returnsWeight() throws Exception {
+        assertEquals("150.5", ParserUtil.parseWeight("150.5").value);
+        assertEquals("200.0", ParserUtil.parseWeight("200").value);
+    }
+
     @Test
     public void parseTeamName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTeamName((String) null));
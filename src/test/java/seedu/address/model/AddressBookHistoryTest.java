@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookHistoryTest {
+
+    /** The values that the recorded steps have produced, which each step appends to. */
+    private final List<Integer> values = new ArrayList<>();
+    private final AddressBookHistory history = new AddressBookHistory(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(0));
+    }
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> history.record(null));
+    }
+
+    @Test
+    public void undo_nothingCommitted_throwsIllegalStateException() {
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::undo);
+        assertThrows(IllegalStateException.class, history::redo);
+    }
+
+    @Test
+    public void undo_entry_appliesInversesNewestFirst() {
+        append(1);
+        append(2);
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(), values);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo();
+        assertEquals(List.of(1, 2), values);
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_moreEntriesThanCapacity_forgetsOldest() {
+        append(1);
+        history.commit();
+        append(2);
+        history.commit();
+        append(3);
+        history.commit();
+
+        history.undo();
+        history.undo();
+        assertEquals(List.of(1), values);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_nothingRecorded_keepsRedo() {
+        append(1);
+        history.commit();
+        history.undo();
+        history.commit();
+        assertTrue(history.canRedo());
+
+        append(2);
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void clear_forgetsEverything() {
+        append(1);
+        history.commit();
+        append(2);
+        history.clear();
+        assertFalse(history.canUndo());
+        history.commit();
+        assertFalse(history.canUndo());
+    }
+
+    /**
+     * Appends {@code value} and records its inverse, which itself records the inverse when run, like the
+     * mutation points of an address book.
+     */
+    private void append(int value) {
+        values.add(value);
+        history.record(() -> removeLast(value));
+    }
+
+    private void removeLast(int value) {
+        values.remove(values.size() - 1);
+        history.record(() -> append(value));
+    }
+}
@@ -2,29 +2,48 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
+    private static final Session TRACK_SESSION = new Session(new Location("Track"),
+            LocalDateTime.of(2025, 10, 21, 7, 0), LocalDateTime.of(2025, 10, 21, 8, 0));
+
     private final AddressBook addressBook = new AddressBook();
 
     @Test
@@ -79,6 +98,224 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getTeamOfPerson_personInTeam_returnsTeam() {
+        Team team = addTypicalTeam();
+        assertEquals(team, addressBook.getTeamOfPerson(ALICE));
+        assertNull(addressBook.getTeamOfPerson(ELLE));
+    }
+
+    @Test
+    public void getTeamOfPerson_teamRemoved_returnsNull() {
+        Team team = addTypicalTeam();
+        addressBook.removeTeam(team);
+        assertNull(addressBook.getTeamOfPerson(ALICE));
+    }
+
+    @Test
+    public void setPerson_personInTeam_teamUnchanged() {
+        Team team = addTypicalTeam();
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Edited").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        // the team refers to its members by id, so the edited person takes the place of the old one
+        assertSame(team, addressBook.getTeamOfPerson(editedAlice));
+        assertSame(team, addressBook.getTeamList().get(0));
+        assertNull(addressBook.getTeamOfPerson(ALICE));
+        assertEquals(List.of(editedAlice, BENSON, CARL, DANIEL), addressBook.getTeamMembers(team));
+    }
+
+    @Test
+    public void setPerson_editedPersonWithoutId_keepsTargetId() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build().withId(null);
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(ALICE.getId(), addressBook.getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void addPerson_assignsUnusedIds() {
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(ALICE.withId(null));
+        addressBook.addPerson(CARL.withId(BENSON.getId()));
+
+        assertEquals(BENSON.getId(), addressBook.getPerson(BENSON.getName(), BENSON.getDob()).getId());
+        assertEquals(new PersonId(BENSON.getId().value + 1),
+                addressBook.getPerson(ALICE.getName(), ALICE.getDob()).getId());
+        assertEquals(new PersonId(BENSON.getId().value + 2),
+                addressBook.getPerson(CARL.getName(), CARL.getDob()).getId());
+        assertSame(addressBook.getPersonList().get(2), addressBook.getPerson(new PersonId(BENSON.getId().value + 2)));
+    }
+
+    @Test
+    public void addPerson_afterReset_doesNotReuseIds() {
+        addressBook.addPerson(BENSON);
+        addressBook.resetData(new AddressBook());
+        addressBook.addPerson(ALICE.withId(null));
+
+        assertEquals(new PersonId(BENSON.getId().value + 1), addressBook.getPersonList().get(0).getId());
+    }
+
+    @Test
+    public void addPersons_assignsUnusedIdsAndRecordsAdditions() {
+        addressBook.addPerson(BENSON);
+        addressBook.takeChanges();
+        addressBook.addPersons(List.of(ALICE.withId(null), CARL.withId(BENSON.getId())));
+
+        assertEquals(List.of(BENSON.getName(), ALICE.getName(), CARL.getName()),
+                addressBook.getPersonList().stream().map(Person::getName).collect(Collectors.toList()));
+        Person addedAlice = addressBook.getPersonList().get(1);
+        Person addedCarl = addressBook.getPersonList().get(2);
+        assertEquals(new PersonId(BENSON.getId().value + 1), addedAlice.getId());
+        assertEquals(new PersonId(BENSON.getId().value + 2), addedCarl.getId());
+        assertEquals(List.of(AddressBookChange.addPerson(addedAlice), AddressBookChange.addPerson(addedCarl)),
+                addressBook.takeChanges());
+    }
+
+    @Test
+    public void addPersons_duplicatePerson_throwsDuplicatePersonException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(List.of(BENSON, ALICE)));
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void takeChanges_changesMade_returnsChangesInOrder() {
+        Team team = addTypicalTeam();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(ELLE);
+
+        List<AddressBookChange> changes = addressBook.takeChanges();
+        assertEquals(8, changes.size());
+        assertEquals(AddressBookChange.addPerson(ALICE), changes.get(0));
+        assertEquals(AddressBookChange.addTeam(team), changes.get(5));
+        assertEquals(AddressBookChange.setPerson(ALICE, editedAlice), changes.get(6));
+        assertEquals(AddressBookChange.removePerson(ELLE), changes.get(7));
+
+        // changes are only returned once
+        assertTrue(addressBook.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_reset_returnsOnlyReset() {
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.removePerson(BENSON);
+        assertEquals(List.of(AddressBookChange.reset()), addressBook.takeChanges());
+    }
+
+    @Test
+    public void undo_changesOfOneCommit_restoresPreviousState() {
+        Team team = addTypicalTeam();
+        addressBook.commit();
+        AddressBook expected = new AddressBook(addressBook);
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addSessionToTeam(team, TRACK_SESSION);
+        addressBook.removeTeam(addressBook.getTeamList().get(0));
+        addressBook.removePerson(BENSON);
+        addressBook.addPerson(new PersonBuilder().withName("New Athlete").build());
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(expected, addressBook);
+        assertEquals(expected.getPersonList(), addressBook.getPersonList()); // same order
+        assertEquals(team, addressBook.getTeamOfPerson(BENSON));
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), addressBook.getTeamMembers(team));
+
+        addressBook.undo();
+        assertEquals(new AddressBook(), addressBook);
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void undo_removals_recordsPositionsOfRestoredEntries() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addPerson(HOON);
+        Team relayA = new Team(new TeamName("Relay A"), Set.of(ALICE, BENSON, CARL, DANIEL));
+        Team relayB = new Team(new TeamName("Relay B"), Set.of(ELLE, FIONA, GEORGE, HOON));
+        addressBook.addTeam(relayA);
+        addressBook.addTeam(relayB);
+        addressBook.commit();
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        addressBook.takeChanges();
+
+        addressBook.removeTeam(relayA);
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        addressBook.undo();
+
+        assertEquals(persons, addressBook.getPersonList());
+        assertEquals(List.of(relayA, relayB), addressBook.getTeamList());
+        assertEquals(List.of(AddressBookChange.removeTeam(relayA), AddressBookChange.removePerson(BENSON),
+                AddressBookChange.addPerson(persons.get(1), 1), AddressBookChange.addTeam(relayA, 0)),
+                addressBook.takeChanges());
+    }
+
+    @Test
+    public void redo_undoneCommit_reappliesChanges() {
+        Team team = addTypicalTeam();
+        addressBook.commit();
+        addressBook.addSessionToTeam(team, TRACK_SESSION);
+        addressBook.commit();
+        AddressBook expected = new AddressBook(addressBook);
+
+        addressBook.undo();
+        assertTrue(addressBook.getTeamList().get(0).getSessions().isEmpty());
+        assertTrue(addressBook.canRedo());
+
+        addressBook.redo();
+        assertEquals(expected, addressBook);
+        assertFalse(addressBook.canRedo());
+
+        // and again, since redoing is undone like any other change
+        addressBook.undo();
+        addressBook.undo();
+        assertTrue(addressBook.getPersonList().isEmpty());
+        addressBook.redo();
+        addressBook.redo();
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void undo_reset_restoresPreviousPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        Person storedAlice = addressBook.getPersonList().get(0);
+        addressBook.resetData(new AddressBook());
+        addressBook.commit();
+
+        addressBook.undo();
+        assertSame(storedAlice, addressBook.getPersonList().get(0));
+
+        // ids are not handed out again after the restore
+        addressBook.addPerson(BENSON.withId(null));
+        assertEquals(new PersonId(ALICE.getId().value + 1), addressBook.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void commit_newChangesAfterUndo_forgetsRedo() {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.undo();
+        addressBook.commit(); // nothing changed, so the undone step can still be redone
+        assertTrue(addressBook.canRedo());
+
+        addressBook.addPerson(BENSON);
+        addressBook.commit();
+        assertFalse(addressBook.canRedo());
+        assertThrows(IllegalStateException.class, addressBook::redo);
+    }
+
+    @Test
+    public void copyConstructor_changedAddressBook_nothingToUndo() {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        assertFalse(new AddressBook(addressBook).canUndo());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -92,6 +329,13 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    private Team addTypicalTeam() {
+        List.of(ALICE, BENSON, CARL, DANIEL, ELLE).forEach(addressBook::addPerson);
+        Team team = new Team(new TeamName("Typical"), Set.of(ALICE, BENSON, CARL, DANIEL));
+        addressBook.addTeam(team);
+        return team;
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -0,0 +1,90 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSearchIndex.NumericField;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        FieldInRangePredicate firstPredicate = new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(firstPredicate.equals(new FieldInRangePredicate(NumericField.WEIGHT, 1700, 1850)));
+
+        // different bounds -> returns false
+        assertFalse(firstPredicate.equals(new FieldInRangePredicate(NumericField.HEIGHT, 1600, 1850)));
+        assertFalse(firstPredicate.equals(new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1800)));
+    }
+
+    @Test
+    public void test_fieldInRange_returnsTrue() {
+        FieldInRangePredicate predicate = new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850);
+        assertTrue(predicate.test(new PersonBuilder().withHeight("175.5").build()));
+
+        // Boundary values
+        assertTrue(predicate.test(new PersonBuilder().withHeight("170").build()));
+        assertTrue(predicate.test(new PersonBuilder().withHeight("185").build()));
+
+        // Dates of birth in epoch days
+        predicate = new FieldInRangePredicate(NumericField.DOB,
+                (int) LocalDate.of(2008, 1, 1).toEpochDay(), (int) LocalDate.of(2010, 12, 31).toEpochDay());
+        assertTrue(predicate.test(new PersonBuilder().withDob("2010-12-31").build()));
+    }
+
+    @Test
+    public void test_fieldOutOfRange_returnsFalse() {
+        FieldInRangePredicate predicate = new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850);
+        assertFalse(predicate.test(new PersonBuilder().withHeight("169.9").build()));
+        assertFalse(predicate.test(new PersonBuilder().withHeight("185.1").build()));
+
+        // Other field in range but not this one
+        assertFalse(predicate.test(new PersonBuilder().withHeight("150").withWeight("175").build()));
+
+        // Empty range
+        predicate = new FieldInRangePredicate(NumericField.HEIGHT, 1850, 1700);
+        assertFalse(predicate.test(new PersonBuilder().withHeight("175").build()));
+    }
+
+    @Test
+    public void getMatches_returnsSamePersonsAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.setPersons(getTypicalPersons());
+        FieldInRangePredicate predicate = new FieldInRangePredicate(NumericField.WEIGHT, 550, 700);
+
+        Set<Person> expected = getTypicalPersons().stream().filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, predicate.getMatches(persons.getSearchIndex()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        FieldInRangePredicate predicate = new FieldInRangePredicate(NumericField.HEIGHT, 1700, 1850);
+
+        String expected = FieldInRangePredicate.class.getCanonicalName()
+                + "{field=" + NumericField.HEIGHT + ", min=1700, max=1850}";
+        assertEquals(expected, predicate.toString());
+    }
+}
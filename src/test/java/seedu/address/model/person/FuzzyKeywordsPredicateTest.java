@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyKeywordsPredicateTest {
+
+    @Test
+    public void constructor_fieldNotFuzzySearchable_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyKeywordsPredicate(Field.TAG, List.of("a")));
+    }
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        FuzzyKeywordsPredicate firstPredicate = new FuzzyKeywordsPredicate(Field.NAME, firstPredicateKeywordList);
+        FuzzyKeywordsPredicate secondPredicate = new FuzzyKeywordsPredicate(Field.NAME, secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FuzzyKeywordsPredicate(Field.NAME, firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different field -> returns false
+        assertFalse(firstPredicate.equals(new FuzzyKeywordsPredicate(Field.SCHOOL, firstPredicateKeywordList)));
+    }
+
+    @Test
+    public void test_wordNearKeyword_returnsTrue() {
+        // Exact word
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Field.NAME, List.of("John"));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Doe").build()));
+
+        // Swapped letters, mixed case
+        predicate = new FuzzyKeywordsPredicate(Field.NAME, List.of("jONh"));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Doe").build()));
+
+        // Only one keyword near a word
+        predicate = new FuzzyKeywordsPredicate(Field.SCHOOL, Arrays.asList("Other", "Jurnog"));
+        assertTrue(predicate.test(new PersonBuilder().withSchool("Jurong High").build()));
+    }
+
+    @Test
+    public void test_noWordNearKeyword_returnsFalse() {
+        // Zero keywords
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Field.NAME, Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("John Doe").build()));
+
+        // Too many typos for the length of the keyword
+        predicate = new FuzzyKeywordsPredicate(Field.NAME, List.of("Jo", "Jnoh"));
+        assertFalse(predicate.test(new PersonBuilder().withName("John Doe").build()));
+
+        // Near a word of another field
+        predicate = new FuzzyKeywordsPredicate(Field.NAME, List.of("Jurnog"));
+        assertFalse(predicate.test(new PersonBuilder().withName("John Doe").withSchool("Jurong High").build()));
+    }
+
+    @Test
+    public void getRanking_matches_closestFirst() {
+        Person john = new PersonBuilder().withName("John Doe").build();
+        Person jon = new PersonBuilder().withName("Jon Doe").build();
+        Person jonh = new PersonBuilder().withName("Jonh Doe").build();
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Field.NAME, List.of("Jonh"));
+
+        List<Person> persons = new ArrayList<>(List.of(john, jon, jonh));
+        persons.sort(predicate.getRanking(Set.of(john, jon, jonh)));
+        assertEquals(jonh, persons.get(0));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        FuzzyKeywordsPredicate predicate = new FuzzyKeywordsPredicate(Field.NAME, keywords);
+
+        String expected = FuzzyKeywordsPredicate.class.getCanonicalName() + "{field=" + Field.NAME
+                + ", keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
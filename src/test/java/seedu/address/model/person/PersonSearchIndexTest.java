@@ -0,0 +1,204 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.model.person.PersonSearchIndex.NumericField;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonSearchIndex index = persons.getSearchIndex();
+
+    @Test
+    public void getPersonsMatchingAny_emptyIndex_returnsEmptySet() {
+        assertTrue(index.getPersonsMatchingAny(Field.NAME, List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsMatchingAny_wordInField_returnsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        // whole word, ignoring case
+        assertEquals(Set.of(ALICE), index.getPersonsMatchingAny(Field.NAME, List.of("aLiCe")));
+
+        // any keyword matches
+        assertEquals(Set.of(BENSON, CARL), index.getPersonsMatchingAny(Field.NAME, List.of("Meier", "Kurz")));
+
+        // partial words do not match
+        assertTrue(index.getPersonsMatchingAny(Field.NAME, List.of("Ali")).isEmpty());
+
+        // words are only matched against the given field
+        assertTrue(index.getPersonsMatchingAny(Field.SCHOOL, List.of("Alice")).isEmpty());
+        assertEquals(Set.of(ALICE), index.getPersonsMatchingAny(Field.SCHOOL, List.of("jurong")));
+        assertEquals(Set.of(ALICE, BENSON), index.getPersonsMatchingAny(Field.ROLE, List.of("student")));
+        assertEquals(Set.of(BENSON), index.getPersonsMatchingAny(Field.TAG, List.of("OWESMONEY")));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_afterSetPerson_reflectsEditedPerson() {
+        persons.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withSchool("Raffles Institution").build();
+        persons.setPerson(ALICE, editedAlice);
+
+        assertTrue(index.getPersonsMatchingAny(Field.SCHOOL, List.of("Jurong")).isEmpty());
+        assertEquals(Set.of(editedAlice), index.getPersonsMatchingAny(Field.SCHOOL, List.of("raffles")));
+        assertEquals(Set.of(editedAlice), index.getPersonsMatchingAny(Field.NAME, List.of("Alice")));
+    }
+
+    @Test
+    public void getPersonsMatchingAny_afterRemove_excludesPerson() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.remove(ALICE);
+
+        assertTrue(index.getPersonsMatchingAny(Field.TAG, List.of("owesMoney")).contains(BENSON));
+        assertEquals(Set.of(BENSON), index.getPersonsMatchingAny(Field.TAG, List.of("friends")));
+        assertTrue(index.getPersonsMatchingAny(Field.NAME, Collections.singletonList("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getMaxEditDistance() {
+        assertEquals(0, PersonSearchIndex.getMaxEditDistance("al")); // Boundary value
+        assertEquals(1, PersonSearchIndex.getMaxEditDistance("ali")); // Boundary value
+        assertEquals(1, PersonSearchIndex.getMaxEditDistance("benson")); // Boundary value
+        assertEquals(2, PersonSearchIndex.getMaxEditDistance("clementi")); // Boundary value
+    }
+
+    @Test
+    public void getPersonsNearAny_fieldNotFuzzySearchable_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.getPersonsNearAny(Field.ROLE, List.of("student")));
+    }
+
+    @Test
+    public void getPersonsNearAny_wordsWithTypos_returnsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        // exact words, ignoring case
+        assertEquals(Set.of(ALICE), index.getPersonsNearAny(Field.NAME, List.of("aLiCe")));
+
+        // swapped, wrong, missing and extra letters
+        assertEquals(Set.of(ALICE), index.getPersonsNearAny(Field.NAME, List.of("Ailce")));
+        assertEquals(Set.of(BENSON), index.getPersonsNearAny(Field.NAME, List.of("Bensen")));
+        assertEquals(Set.of(CARL), index.getPersonsNearAny(Field.NAME, List.of("Krz")));
+        assertEquals(Set.of(ALICE), index.getPersonsNearAny(Field.NAME, List.of("Paulinee")));
+
+        // two typos in a long word
+        assertEquals(Set.of(BENSON), index.getPersonsNearAny(Field.SCHOOL, List.of("Clemnetti")));
+
+        // too many typos
+        assertTrue(index.getPersonsNearAny(Field.NAME, List.of("Alx")).isEmpty());
+        assertTrue(index.getPersonsNearAny(Field.NAME, List.of("Bnesno")).isEmpty());
+
+        // any keyword matches
+        assertEquals(Set.of(ALICE, CARL), index.getPersonsNearAny(Field.NAME, List.of("Alcie", "Karl")));
+
+        // words are only matched against the given field
+        assertTrue(index.getPersonsNearAny(Field.SCHOOL, List.of("Alice")).isEmpty());
+    }
+
+    @Test
+    public void getPersonsNearAny_afterSetPersonAndRemove_reflectsChanges() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withSchool("Raffles Institution").build();
+        persons.setPerson(ALICE, editedAlice);
+
+        assertTrue(index.getPersonsNearAny(Field.SCHOOL, List.of("Jurog")).isEmpty());
+        assertEquals(Set.of(editedAlice), index.getPersonsNearAny(Field.SCHOOL, List.of("Rafles")));
+
+        persons.remove(BENSON);
+        assertTrue(index.getPersonsNearAny(Field.NAME, List.of("Bensno")).isEmpty());
+        assertTrue(index.getPersonsNearAny(Field.SCHOOL, List.of("Clemneti")).isEmpty());
+    }
+
+    @Test
+    public void getMatches_personMatchesAllPredicate_intersectsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        PersonMatchesAllPredicate predicate = new PersonMatchesAllPredicate(Arrays.asList(
+                new RoleContainsKeywordsPredicate(List.of("student")),
+                new TagContainsKeywordsPredicate(List.of("owesMoney"))));
+
+        assertEquals(Set.of(BENSON), predicate.getMatches(index));
+        assertTrue(predicate.test(BENSON));
+        assertTrue(!predicate.test(ALICE));
+    }
+
+    @Test
+    public void getPersonsBetween_range_returnsPersonsInRangeInclusive() {
+        persons.setPersons(getTypicalPersons());
+
+        assertEquals(Set.of(BENSON, CARL, DANIEL), index.getPersonsBetween(NumericField.HEIGHT, 1700, 1750));
+        assertEquals(Set.of(ALICE, ELLE), index.getPersonsBetween(NumericField.WEIGHT, 0, 500));
+        assertEquals(Set.of(ALICE, BENSON, ELLE, FIONA), index.getPersonsBetween(NumericField.DOB,
+                (int) LocalDate.of(2000, 1, 1).toEpochDay(), (int) LocalDate.of(2001, 12, 31).toEpochDay()));
+
+        // Boundary value: just outside the heights of CARL and BENSON
+        assertEquals(Set.of(DANIEL), index.getPersonsBetween(NumericField.HEIGHT, 1701, 1749));
+
+        // EP: empty ranges
+        assertTrue(index.getPersonsBetween(NumericField.HEIGHT, 1750, 1700).isEmpty());
+        assertTrue(index.getPersonsBetween(NumericField.HEIGHT, 2000, Integer.MAX_VALUE).isEmpty());
+        assertEquals(getTypicalPersons().size(),
+                index.getPersonsBetween(NumericField.HEIGHT, Integer.MIN_VALUE, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    public void getPersonsBetween_afterSetPersonAndRemove_reflectsChanges() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        Person tallerAlice = new PersonBuilder(ALICE).withHeight("190").build();
+        persons.setPerson(ALICE, tallerAlice);
+        persons.remove(BENSON);
+
+        assertEquals(Set.of(tallerAlice), index.getPersonsBetween(NumericField.HEIGHT, 1600, 1900));
+        assertTrue(index.getPersonsBetween(NumericField.HEIGHT, 1600, 1899).isEmpty());
+    }
+
+    @Test
+    public void getPersonsBetween_manyChanges_matchesFullScan() {
+        Random random = new Random(25);
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            added.add(new PersonBuilder().withDob(LocalDate.of(1990, 1, 1).plusDays(random.nextInt(9000)).toString())
+                    .withName("Athlete " + (char) ('a' + i % 26) + (char) ('a' + i / 26))
+                    .withHeight(String.valueOf(150 + random.nextInt(40))).build());
+        }
+        persons.setPersons(added.subList(0, 100));
+        persons.addAll(added.subList(100, 250)); // sorted again in one go
+        added.subList(250, 300).forEach(persons::add); // shifted in one at a time
+        for (int i = 0; i < 300; i += 3) {
+            persons.remove(added.get(i));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            int min = 1500 + random.nextInt(400);
+            int max = min + random.nextInt(100);
+            Set<Person> expected = persons.asUnmodifiableObservableList().stream()
+                    .filter(person -> new FieldInRangePredicate(NumericField.HEIGHT, min, max).test(person))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, index.getPersonsBetween(NumericField.HEIGHT, min, max));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.team;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+
+public class SessionCalendarTest {
+
+    private static final Location TRACK = new Location("Track");
+    private static final Location GYM = new Location("Gym");
+
+    private static final Session RELAY_TRACK = session(TRACK, 7, 9);
+    private static final Session RELAY_GYM = session(GYM, 10, 11);
+    private static final Session SPRINT_TRACK = session(TRACK, 8, 10);
+    private static final Session SPRINT_ALL_DAY = session(GYM, 0, 23);
+
+    private final UniqueTeamList teams = new UniqueTeamList();
+    private final SessionCalendar calendar = teams.getSessionCalendar();
+
+    private Team relay;
+    private Team sprint;
+
+    private static Session session(Location location, int startHour, int endHour) {
+        return new Session(location, at(startHour), at(endHour));
+    }
+
+    private static LocalDateTime at(int hour) {
+        return LocalDateTime.of(2025, 10, 21, hour, 0);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        relay = new Team(new TeamName("Relay"), Set.of(ALICE, BENSON, CARL, DANIEL), Set.of(RELAY_TRACK, RELAY_GYM));
+        sprint = new Team(new TeamName("Sprint"), Set.of(ELLE, FIONA, GEORGE, HOON),
+                Set.of(SPRINT_TRACK, SPRINT_ALL_DAY));
+        teams.add(relay);
+        teams.add(sprint);
+    }
+
+    @Test
+    public void getSessionsBetween_overlappingSessions_inChronologicalOrder() {
+        assertEquals(List.of(scheduled(sprint, SPRINT_ALL_DAY), scheduled(relay, RELAY_TRACK),
+                scheduled(sprint, SPRINT_TRACK)), calendar.getSessionsBetween(at(7), at(9)));
+    }
+
+    @Test
+    public void getSessionsBetween_longSessionStartedEarlier_included() {
+        assertEquals(List.of(scheduled(sprint, SPRINT_ALL_DAY)), calendar.getSessionsBetween(at(20), at(22)));
+    }
+
+    @Test
+    public void getSessionsBetween_touchingSessions_excluded() {
+        teams.remove(sprint);
+        assertEquals(List.of(), calendar.getSessionsBetween(at(9), at(10)));
+        assertEquals(List.of(), calendar.getSessionsBetween(at(9), at(9)));
+    }
+
+    @Test
+    public void getSessionsAt_onlyThatLocation() {
+        assertEquals(List.of(scheduled(relay, RELAY_TRACK), scheduled(sprint, SPRINT_TRACK)),
+                calendar.getSessionsAt(new Location("track"), at(0), at(23)));
+        assertEquals(List.of(), calendar.getSessionsAt(new Location("Pool"), at(0), at(23)));
+    }
+
+    @Test
+    public void getSessionsAt_sameSessionInTwoTeams_bothListedUntilRemoved() {
+        Team sprintWithRelaySession = sprint.withSessions(Set.of(RELAY_TRACK));
+        teams.setTeam(sprint, sprintWithRelaySession);
+        assertEquals(List.of(scheduled(relay, RELAY_TRACK), scheduled(sprint, RELAY_TRACK)),
+                calendar.getSessionsAt(TRACK, at(7), at(8)));
+
+        assertEquals(List.of(scheduled(relay, RELAY_TRACK), scheduled(sprint, RELAY_TRACK)),
+                calendar.getSessionsBetween(at(7), at(8)));
+
+        teams.remove(relay);
+        assertEquals(List.of(scheduled(sprint, RELAY_TRACK)), calendar.getSessionsAt(TRACK, at(7), at(8)));
+        assertEquals(List.of(scheduled(sprint, RELAY_TRACK)), calendar.getSessionsBetween(at(7), at(8)));
+    }
+
+    @Test
+    public void setTeam_sessionsChanged_calendarUpdated() {
+        Session evening = session(TRACK, 18, 19);
+        Team updatedRelay = relay.withSessions(relay.getSessions().without(RELAY_GYM).with(evening));
+        teams.setTeam(relay, updatedRelay);
+
+        assertEquals(List.of(scheduled(sprint, SPRINT_ALL_DAY), scheduled(relay, evening)),
+                calendar.getSessionsBetween(at(10), at(23)));
+        assertEquals(List.of(scheduled(sprint, SPRINT_ALL_DAY)), calendar.getSessionsAt(GYM, at(0), at(23)));
+    }
+
+    @Test
+    public void setTeams_replacesCalendar() {
+        teams.setTeams(List.of(relay));
+        assertEquals(List.of(scheduled(relay, RELAY_TRACK), scheduled(relay, RELAY_GYM)),
+                calendar.getSessionsBetween(at(0), at(23)));
+    }
+
+    private static ScheduledSession scheduled(Team team, Session session) {
+        return new ScheduledSession(team.getName(), session);
+    }
+}
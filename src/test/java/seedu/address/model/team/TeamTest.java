@@ -1,5 +1,6 @@
 package seedu.address.model.team;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -11,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.HOON;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -98,25 +100,29 @@ public class TeamTest {
     }
 
     @Test
-    public void updateTeamMember_replacesMemberAndReturnsNewTeam() {
+    public void hasMember_editedMember_stillMember() {
         Set<Person> members = new HashSet<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
         Team team = new Team(new TeamName("TeamUpdate"), members);
 
+        // members are referred to by id, so an edited member with the same id is still a member
         Person newAlice = new PersonBuilder(ALICE).withName("Alice Changed").build();
-        Team updated = team.updateTeamMember(ALICE, newAlice);
+        assertTrue(team.hasMember(newAlice));
 
-        // original unchanged
-        assertTrue(team.hasMember(ALICE));
-        assertFalse(team.hasMember(newAlice));
+        // a person without an id is never a member
+        Person aliceWithoutId = ALICE.withId(null);
+        assertFalse(team.hasMember(aliceWithoutId));
+    }
 
-        // updated has new member and not old
-        assertFalse(updated.hasMember(ALICE));
-        assertTrue(updated.hasMember(newAlice));
+    @Test
+    public void constructor_memberWithoutId_throwsIllegalArgumentException() {
+        Set<Person> members = new HashSet<>(Arrays.asList(ALICE.withId(null), BENSON, CARL, DANIEL));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Team(new TeamName("TeamA"), members));
+    }
 
-        // other members preserved
-        assertTrue(updated.hasMember(BENSON));
-        assertTrue(updated.hasMember(CARL));
-        assertTrue(updated.hasMember(DANIEL));
+    @Test
+    public void getMemberIds_sortedById() {
+        Team team = new Team(new TeamName("TeamIds"), new HashSet<>(Arrays.asList(DANIEL, BENSON, ALICE, CARL)));
+        assertEquals(List.of(ALICE.getId(), BENSON.getId(), CARL.getId(), DANIEL.getId()), team.getMemberIds());
     }
 
     @Test
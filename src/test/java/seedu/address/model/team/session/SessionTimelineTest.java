@@ -0,0 +1,150 @@
+package seedu.address.model.team.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionTimelineTest {
+
+    private static final Session MORNING = session("Track", 7, 8);
+    private static final Session NOON = session("Gym", 12, 13);
+    private static final Session EVENING = session("Track", 18, 20);
+
+    private static Session session(String location, int startHour, int endHour) {
+        return new Session(new Location(location), LocalDateTime.of(2025, 10, 21, startHour, 0),
+                LocalDateTime.of(2025, 10, 21, endHour, 0));
+    }
+
+    @Test
+    public void of_unsortedWithDuplicates_sortedAndDistinct() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(EVENING, MORNING, NOON, session("track", 7, 8)));
+        assertEquals(List.of(MORNING, NOON, EVENING), new ArrayList<>(timeline));
+        assertEquals(3, timeline.size());
+    }
+
+    @Test
+    public void with_presentSession_returnsSameTimeline() {
+        SessionTimeline timeline = SessionTimeline.empty().with(MORNING);
+        assertSame(timeline, timeline.with(session("TRACK", 7, 8)));
+    }
+
+    @Test
+    public void without_absentSession_returnsSameTimeline() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING, NOON));
+        assertSame(timeline, timeline.without(EVENING));
+    }
+
+    @Test
+    public void without_presentSession_originalUnchanged() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING, NOON, EVENING));
+        SessionTimeline removed = timeline.without(NOON);
+
+        assertEquals(List.of(MORNING, EVENING), new ArrayList<>(removed));
+        assertEquals(List.of(MORNING, NOON, EVENING), new ArrayList<>(timeline));
+    }
+
+    @Test
+    public void contains() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING, NOON));
+        assertTrue(timeline.contains(MORNING));
+        assertTrue(timeline.contains(session("gym", 12, 13)));
+        assertFalse(timeline.contains(EVENING));
+        assertFalse(timeline.contains("Track"));
+    }
+
+    @Test
+    public void get_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING));
+        assertThrows(IndexOutOfBoundsException.class, () -> timeline.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> timeline.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> SessionTimeline.empty().get(0));
+    }
+
+    @Test
+    public void findOverlapping() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING, NOON, EVENING));
+
+        assertEquals(Optional.of(NOON), timeline.findOverlapping(session("Pool", 11, 13)));
+        assertEquals(Optional.of(EVENING), timeline.findOverlapping(session("Pool", 19, 21)));
+
+        // back-to-back sessions do not overlap
+        assertEquals(Optional.empty(), timeline.findOverlapping(session("Pool", 8, 12)));
+        assertEquals(Optional.empty(), timeline.findOverlapping(session("Pool", 13, 18)));
+    }
+
+    @Test
+    public void findOverlapping_longSessionOnLeft_found() {
+        // the long session starts first but ends last, so it is only found through the latest end of its subtree
+        Session allDay = session("Field", 6, 22);
+        SessionTimeline timeline = SessionTimeline.of(List.of(allDay, MORNING, NOON, EVENING));
+        assertTrue(timeline.findOverlapping(session("Pool", 21, 22)).isPresent());
+    }
+
+    @Test
+    public void randomOperations_matchSortedList() {
+        Random random = new Random(42);
+        SessionTimeline timeline = SessionTimeline.empty();
+        Set<Session> expected = new HashSet<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int day = 1 + random.nextInt(28);
+            int start = random.nextInt(20);
+            Session session = new Session(new Location("L" + random.nextInt(3)),
+                    LocalDateTime.of(2025, 10, day, start, 0),
+                    LocalDateTime.of(2025, 10, day, start + 1 + random.nextInt(3), 0));
+            if (random.nextBoolean()) {
+                timeline = timeline.with(session);
+                expected.add(session);
+            } else {
+                timeline = timeline.without(session);
+                expected.remove(session);
+            }
+        }
+
+        List<Session> sorted = new ArrayList<>(expected);
+        sorted.sort(Session.SESSION_ORDER);
+        assertEquals(sorted, new ArrayList<>(timeline));
+        assertEquals(expected, timeline);
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(sorted.get(i), timeline.get(i));
+        }
+
+        for (int hour = 0; hour < 23; hour++) {
+            Session query = session("Pool", hour, hour + 1);
+            boolean anyOverlap = sorted.stream()
+                    .anyMatch(s -> s.overlaps(query.getStartDate(), query.getEndDate()));
+            assertEquals(anyOverlap, timeline.findOverlapping(query).isPresent());
+        }
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING));
+        assertThrows(UnsupportedOperationException.class, () -> timeline.add(NOON));
+        assertThrows(UnsupportedOperationException.class, () -> timeline.remove(MORNING));
+    }
+
+    @Test
+    public void equals() {
+        SessionTimeline timeline = SessionTimeline.of(List.of(MORNING, NOON));
+
+        assertTrue(timeline.equals(SessionTimeline.empty().with(NOON).with(MORNING)));
+        assertTrue(timeline.equals(Set.of(MORNING, NOON)));
+        assertEquals(Set.of(MORNING, NOON).hashCode(), timeline.hashCode());
+        assertFalse(timeline.equals(SessionTimeline.of(List.of(MORNING))));
+        assertFalse(timeline.equals(SessionTimeline.of(List.of(MORNING, EVENING))));
+        assertFalse(timeline.equals(null));
+    }
+}
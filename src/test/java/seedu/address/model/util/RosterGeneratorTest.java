@@ -0,0 +1,65 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+public class RosterGeneratorTest {
+
+    @Test
+    public void constructor_tooManyTeams_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RosterGenerator(1, 7, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RosterGenerator(1, -1, 0, 0));
+    }
+
+    @Test
+    public void getPerson_sameSeed_sameAthlete() {
+        RosterGenerator generator = new RosterGenerator(7, 100, 0, 0);
+        assertEquals(generator.getPerson(42), new RosterGenerator(7, 50, 0, 0).getPerson(42));
+        assertNotEquals(generator.getPerson(42), new RosterGenerator(8, 100, 0, 0).getPerson(42));
+        assertEquals(43, generator.getPerson(42).getId().value);
+    }
+
+    @Test
+    public void persons_manyAthletes_distinctIdentities() {
+        RosterGenerator generator = new RosterGenerator(3, 20_000, 0, 0);
+        Set<String> identities = new HashSet<>();
+        for (Person person : generator.persons()) {
+            identities.add(person.getName().fullName.toLowerCase() + " " + person.getDob());
+        }
+        assertEquals(20_000, identities.size());
+    }
+
+    @Test
+    public void toAddressBook_teamsWithSessions_success() {
+        AddressBook addressBook = new RosterGenerator(5, 40, 10, 4).toAddressBook();
+
+        assertEquals(40, addressBook.getPersonList().size());
+        assertEquals(10, addressBook.getTeamList().size());
+        for (Team team : addressBook.getTeamList()) {
+            assertEquals(4, team.getSessions().size());
+            assertEquals(Team.TEAM_SIZE, addressBook.getTeamMembers(team).size());
+        }
+    }
+
+    @Test
+    public void teams_iteratedTwice_sameTeams() {
+        RosterGenerator generator = new RosterGenerator(11, 8, 2, 3);
+        List<Team> first = new ArrayList<>();
+        generator.teams().forEach(first::add);
+        List<Team> second = new ArrayList<>();
+        generator.teams().forEach(second::add);
+        assertEquals(first, second);
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBookChanges_nothingReadOrSaved_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterSnapshot_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+
+        Team team = new Team(new TeamName("Relay"), Set.of(ALICE, BENSON, CARL, DANIEL));
+        Session session = new Session(new Location("Track"),
+                LocalDateTime.of(2025, 10, 21, 7, 0), LocalDateTime.of(2025, 10, 21, 8, 0));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        addressBook.removePerson(HOON);
+        addressBook.addTeam(team);
+        addressBook.addSessionToTeam(team, session);
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        // the snapshot is untouched and the journal replays onto it
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(6, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+
+        // the journal keeps growing across storage instances
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath);
+        reopenedStorage.readAddressBook();
+        Team editedTeam = addressBook.getTeamOfPerson(editedAlice);
+        addressBook.removeSessionFromTeam(editedTeam, session);
+        addressBook.removeTeam(addressBook.getTeamOfPerson(editedAlice));
+        reopenedStorage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertEquals(8, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_undoneRemovals_restoresPositions() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        Team relayA = new Team(new TeamName("Relay A"), Set.of(ALICE, BENSON, CARL, DANIEL));
+        addressBook.addTeam(relayA);
+        addressBook.addTeam(new Team(new TeamName("Relay B"), Set.of(ELLE, FIONA, GEORGE, HOON)));
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        addressBook.commit();
+
+        addressBook.removeTeam(relayA);
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        addressBook.undo();
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        assertEquals(addressBook.getTeamList(), readBack.getTeamList());
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(new AddressBook(), new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_olderVersionRead_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "v1TeamAddressBook.json"),
+                filePath);
+        String original = Files.readString(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, Files.readString(filePath));
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertTrue(Files.readString(filePath).contains("\"version\" : " + JsonSerializableAddressBook.CURRENT_VERSION));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBookChanges_journalFull_compacts() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        addressBook.removePerson(HOON);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipsRecord() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        Files.writeString(storage.getJournalFilePath(), "{\"type\":\"ADD_PERS", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath);
+        assertEquals(addressBook, reopenedStorage.readAddressBook().get());
+
+        // the broken record is not appended to, but folded away
+        addressBook.addPerson(IDA);
+        reopenedStorage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_recordDoesNotApply_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+
+        // replaying the same addition twice adds a duplicate person
+        Files.write(storage.getJournalFilePath(), Files.readAllLines(storage.getJournalFilePath()),
+                StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_recovers() throws Exception {
+        Path filePath = testFolder.resolve("relaycoach.json");
+        Path compactionFilePath = testFolder.resolve("relaycoach.json.compacting");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.takeChanges();
+
+        // new snapshot written in full and journal deleted: the new snapshot is used
+        AddressBook compacted = new AddressBook(addressBook);
+        compacted.addPerson(HOON);
+        compacted.takeChanges();
+        new JsonAddressBookStorage(compactionFilePath).saveAddressBook(compacted);
+        assertEquals(compacted, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(compactionFilePath));
+
+        // journal still present: the new snapshot may be incomplete and is discarded
+        storage.readAddressBook();
+        compacted.addPerson(IDA);
+        storage.saveAddressBookChanges(compacted, compacted.takeChanges());
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        Files.writeString(compactionFilePath, "{\"persons\":[", StandardCharsets.UTF_8);
+        assertEquals(compacted, new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertFalse(Files.exists(compactionFilePath));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +88,38 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_olderVersion_fileRewrittenOnlyOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "v1TeamAddressBook.json"),
+                filePath);
+        String original = Files.readString(filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        assertEquals(original, Files.readString(filePath));
+
+        jsonAddressBookStorage.saveAddressBook(readBack);
+        String migrated = Files.readString(filePath);
+        assertTrue(migrated.contains("\"version\" : " + JsonSerializableAddressBook.CURRENT_VERSION));
+        assertTrue(migrated.contains("\"memberIds\""));
+        assertEquals(readBack, jsonAddressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_streamedPersonsAndTeams_sameAsSavedAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path streamedFilePath = testFolder.resolve("Streamed.json");
+        Path savedFilePath = testFolder.resolve("Saved.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(streamedFilePath);
+
+        jsonAddressBookStorage.saveAddressBook(original.getPersonList(), original.getTeamList(), streamedFilePath);
+        jsonAddressBookStorage.saveAddressBook(original, savedFilePath);
+
+        assertEquals(Files.readString(savedFilePath), Files.readString(streamedFilePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,16 +1,34 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +37,10 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path V1_TEAM_FILE = TEST_DATA_FOLDER.resolve("v1TeamAddressBook.json");
+    private static final Path V2_TEAM_FILE = TEST_DATA_FOLDER.resolve("v2TeamAddressBook.json");
+    private static final Path UNKNOWN_TEAM_MEMBER_FILE =
+            TEST_DATA_FOLDER.resolve("unknownTeamMemberAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +66,129 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_version1Team_membersTakenFromPersonsList() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(V1_TEAM_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(getTypicalTeamAddressBook(), dataFromFile.toModelType());
+    }
+
+    @Test
+    public void toModelType_version2Team_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(V2_TEAM_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(getTypicalTeamAddressBook(), dataFromFile.toModelType());
+    }
+
+    @Test
+    public void toModelType_unknownTeamMember_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNKNOWN_TEAM_MEMBER_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toJsonString_team_membersStoredAsIds() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalTeamAddressBook()));
+        assertTrue(json.contains("\"memberIds\""));
+        assertFalse(json.contains("\"memberKeys\""));
+        assertFalse(json.contains("\"members\""));
+        assertEquals(getTypicalTeamAddressBook(),
+                JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void readInto_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = new AddressBook();
+        assertEquals(1, readInto(TYPICAL_PERSONS_FILE, addressBookFromFile));
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(addressBookFromFile.getPersonList(), typicalPersonsAddressBook.getPersonList());
+    }
+
+    @Test
+    public void readInto_teamFiles_success() throws Exception {
+        AddressBook addressBookFromFile = new AddressBook();
+        assertEquals(1, readInto(V1_TEAM_FILE, addressBookFromFile));
+        assertEquals(getTypicalTeamAddressBook(), addressBookFromFile);
+
+        addressBookFromFile = new AddressBook();
+        assertEquals(2, readInto(V2_TEAM_FILE, addressBookFromFile));
+        assertEquals(getTypicalTeamAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readInto_teamsBeforePersons_success() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalTeamAddressBook()));
+        int personsStart = json.indexOf("\"persons\"");
+        int teamsStart = json.indexOf("\"teams\"");
+        int end = json.lastIndexOf('}');
+        String reordered = "{ " + json.substring(teamsStart, end) + ", "
+                + json.substring(personsStart, teamsStart).trim().replaceAll(",$", "") + " }";
+
+        AddressBook addressBook = new AddressBook();
+        readInto(reordered, addressBook);
+        assertEquals(getTypicalTeamAddressBook(), addressBook);
+    }
+
+    @Test
+    public void readInto_unknownTeamMember_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readInto(UNKNOWN_TEAM_MEMBER_FILE, new AddressBook()));
+    }
+
+    @Test
+    public void readInto_newerVersion_throwsIllegalValueException() {
+        int newerVersion = JsonSerializableAddressBook.CURRENT_VERSION + 1;
+        assertThrows(IllegalValueException.class, String.format(
+                JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_VERSION, newerVersion), () ->
+                readInto("{ \"version\" : " + newerVersion + ", \"persons\" : [] }", new AddressBook()));
+    }
+
+    @Test
+    public void readInto_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readInto(INVALID_PERSON_FILE, new AddressBook()));
+    }
+
+    @Test
+    public void readInto_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readInto(DUPLICATE_PERSON_FILE, new AddressBook()));
+    }
+
+    @Test
+    public void readInto_notAnObject_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_NOT_ADDRESS_BOOK, () ->
+                readInto("[]", new AddressBook()));
+    }
+
+    @Test
+    public void readInto_unknownAndMissingFields_ignored() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        readInto("{ \"extra\" : { \"major\" : [ 2 ] }, \"teams\" : null }", addressBook);
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    /**
+     * Returns the typical persons, with the first four of them in a team holding one session, as saved in the
+     * team test data files.
+     */
+    private static AddressBook getTypicalTeamAddressBook() {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Session session = new Session(new Location("Track"),
+                LocalDateTime.of(2025, 10, 21, 7, 0), LocalDateTime.of(2025, 10, 21, 8, 0));
+        addressBook.addTeam(new Team(new TeamName("Relay"), Set.of(ALICE, BENSON, CARL, DANIEL), Set.of(session)));
+        return addressBook;
+    }
+
+    private static int readInto(Path filePath, AddressBook addressBook) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            return JsonSerializableAddressBook.readInto(parser, addressBook);
+        }
+    }
+
+    private static int readInto(String json, AddressBook addressBook) throws IOException, IllegalValueException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(bytes))) {
+            return JsonSerializableAddressBook.readInto(parser, addressBook);
+        }
+    }
 }
@@ -2,9 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +20,15 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.TeamName;
+import seedu.address.model.team.session.Location;
+import seedu.address.model.team.session.Session;
+import seedu.address.testutil.PersonBuilder;
 
 public class StorageManagerTest {
 
@@ -60,9 +75,197 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBookChanges_inBackground_coalescesUntilFlushed() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.takeChanges();
+
+        addressBook.addPerson(HOON);
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        addressBook.addPerson(IDA);
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertEquals(0, addressBookStorage.savedChanges.size());
+
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(List.of(List.of(AddressBookChange.addPerson(HOON), AddressBookChange.addPerson(IDA))),
+                addressBookStorage.savedChanges);
+        assertEquals(addressBook, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+
+        // the queued snapshot is not affected by later changes
+        addressBook.removePerson(HOON);
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 2,
+                backgroundStorageManager.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void saveAddressBookChanges_inBackgroundFails_reportsErrorAndRetries() throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        List<IOException> reportedErrors = new ArrayList<>();
+        backgroundStorageManager.setAddressBookSaveErrorHandler(reportedErrors::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.takeChanges();
+
+        addressBook.addPerson(HOON);
+        addressBookStorage.failuresLeft = 1;
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertThrows(IOException.class, backgroundStorageManager::flushAddressBook);
+        assertEquals(1, reportedErrors.size());
+
+        // the failed changes are saved in full by the next flush
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(List.of(AddressBookChange.reset()), addressBookStorage.savedChanges.get(1));
+        assertEquals(addressBook, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_inBackgroundChangeNotInAddressBook_reportsErrorUntilResubmitted()
+            throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        List<IOException> reportedErrors = new ArrayList<>();
+        backgroundStorageManager.setAddressBookSaveErrorHandler(reportedErrors::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        backgroundStorageManager.flushAddressBook();
+
+        // an edit of a person the writer never saw cannot be applied, which fails the save instead of the writer
+        backgroundStorageManager.saveAddressBookChanges(addressBook, List.of(AddressBookChange.setPerson(HOON, IDA)));
+        assertThrows(IOException.class, backgroundStorageManager::flushAddressBook);
+        assertThrows(IOException.class, backgroundStorageManager::flushAddressBook);
+        assertEquals(1, reportedErrors.size());
+
+        // saving the address book again gives the writer a fresh copy to save
+        addressBook.addPerson(HOON);
+        backgroundStorageManager.saveAddressBook(addressBook);
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_inBackgroundStorageThrowsRuntimeException_reportsErrorAndRetries()
+            throws Exception {
+        SaveCountingAddressBookStorage addressBookStorage = new SaveCountingAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        addressBookStorage.runtimeFailuresLeft = 1;
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        assertThrows(IOException.class, backgroundStorageManager::flushAddressBook);
+
+        addressBook.addPerson(HOON);
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(backgroundStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_inBackgroundWithCompactions_savesAddressBook() throws Exception {
+        // compacts after every few changes, so the address book is written in full from the writer's replica
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(getTempFilePath("ab"), 3);
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        Team team = new Team(new TeamName("Relay A"), Set.of(persons.get(0), persons.get(1), persons.get(2),
+                persons.get(3)));
+        Session session = new Session(new Location("Track"), LocalDateTime.of(2025, 10, 21, 7, 0),
+                LocalDateTime.of(2025, 10, 21, 9, 0));
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+
+        addressBook.addTeam(team);
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(persons.get(4), new PersonBuilder(persons.get(4)).withName("Elle Renamed").build());
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+        addressBook.addSessionToTeam(addressBook.getTeamList().get(0), session);
+        addressBook.removePerson(persons.get(5));
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+        addressBook.removePerson(persons.get(6));
+        addressBook.addPerson(IDA);
+        addressBook.setPerson(persons.get(0), new PersonBuilder(persons.get(0)).withPhone("99999999").build());
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+        addressBook.removeSessionFromTeam(addressBook.getTeamList().get(0), session);
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+    }
+
+    @Test
+    public void saveAddressBookChanges_inBackgroundUndoneRemovals_savesPositions() throws Exception {
+        // saves the address book in full from the writer's replica every time
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        StorageManager backgroundStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        Team relayA = new Team(new TeamName("Relay A"), Set.of(persons.get(0), persons.get(1), persons.get(2),
+                persons.get(3)));
+        addressBook.addTeam(relayA);
+        addressBook.addTeam(new Team(new TeamName("Relay B"), Set.of(persons.get(4), persons.get(5),
+                persons.get(6), persons.get(7))));
+        addressBook.commit();
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+
+        addressBook.removeTeam(relayA);
+        addressBook.removePerson(persons.get(1));
+        addressBook.removePerson(persons.get(2));
+        addressBook.commit();
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+
+        addressBook.undo();
+        assertSavedInBackground(addressBook, backgroundStorageManager, addressBookStorage);
+        AddressBook readBack = new AddressBook(addressBookStorage.readAddressBook().get());
+        assertEquals(persons, readBack.getPersonList());
+        assertEquals(addressBook.getTeamList(), readBack.getTeamList());
+    }
+
+    /**
+     * Saves the changes to {@code addressBook} in the background and checks that {@code addressBookStorage} then
+     * reads it back.
+     */
+    private static void assertSavedInBackground(AddressBook addressBook, StorageManager backgroundStorageManager,
+            AddressBookStorage addressBookStorage) throws Exception {
+        backgroundStorageManager.saveAddressBookChanges(addressBook, addressBook.takeChanges());
+        backgroundStorageManager.flushAddressBook();
+        assertEquals(addressBook, new AddressBook(addressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    /**
+     * A {@code JsonAddressBookStorage} that records the changes it is asked to save, and can be made to fail.
+     */
+    private static class SaveCountingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<List<AddressBookChange>> savedChanges = new ArrayList<>();
+        private int failuresLeft = 0;
+        private int runtimeFailuresLeft = 0;
+
+        SaveCountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                throws IOException {
+            savedChanges.add(changes);
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("Dummy IOException");
+            }
+            if (runtimeFailuresLeft > 0) {
+                runtimeFailuresLeft--;
+                throw new IllegalStateException("Dummy IllegalStateException");
+            }
+            super.saveAddressBookChanges(addressBook, changes);
+        }
+    }
 }
@@ -9,6 +9,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Height;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.School;
@@ -31,6 +32,7 @@ public class PersonBuilder {
     public static final String DEFAULT_HEIGHT = "165";
     public static final String DEFAULT_WEIGHT = "55";
 
+    private PersonId id;
     private Name name;
     private Dob dob;
     private Phone phone;
@@ -62,6 +64,7 @@ public class PersonBuilder {
      * Initializes the PersonBuilder with the data of {@code personToCopy}.
      */
     public PersonBuilder(Person personToCopy) {
+        id = personToCopy.getId();
         name = personToCopy.getName();
         dob = personToCopy.getDob();
         phone = personToCopy.getPhone();
@@ -74,6 +77,14 @@ public class PersonBuilder {
         tags = new HashSet<>(personToCopy.getTags());
     }
 
+    /**
+     * Sets the {@code PersonId} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withId(int id) {
+        this.id = new PersonId(id);
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Person} that we are building.
      */
@@ -155,6 +166,6 @@ public class PersonBuilder {
     }
 
     public Person build() {
-        return new Person(name, dob, phone, email, address, school, role, height, weight, tags);
+        return new Person(id, name, dob, phone, email, address, school, role, height, weight, tags);
     }
 }